@@ -0,0 +1,323 @@
+package com.example.batch.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 프로세서가 item 마다 참조 테이블을 조회하는 대신 사용하는 read-through 캐시
+ * 없는 키는 loader 로 한 번만 조회해 저장하고(값이 없는 키도 저장), 이후 같은 키는 메모리에서 반환함
+ *
+ * <ul>
+ *   <li>maximumSize: 초과하면 가장 오래 전에 적재된 항목부터 약 10% 를 한 번에 제거</li>
+ *   <li>expireAfterWrite: 적재 후 이 시간이 지난 항목은 다시 조회</li>
+ *   <li>{@link #preload()}: bulkLoader 로 전체를 한 번에 적재 (Step 시작 시 호출)</li>
+ *   <li>{@link #beginJobExecution(long)} / {@link #endJobExecution(long)}: 캐시를 쓰는 Job 실행이 없을 때 새 실행이 시작되면 전체를 비움
+ *   (다른 실행이 사용 중이면 비우지 않고, 그 사이 바뀐 값은 expireAfterWrite 가 지나면 다시 조회함)</li>
+ * </ul>
+ *
+ * 같은 키를 여러 스레드가 동시에 조회해도 loader 는 한 번만 호출됨 (스레드 안전)
+ * {@link MeterBinder} 이므로 빈으로 등록하면 통계가 Micrometer 지표(cache.gets, cache.load, cache.evictions, cache.size, tag: cache)로 등록됨
+ *
+ * <pre>
+ * LookupCache.&lt;String, CategoryDiscount&gt;builder("categoryDiscount", category -&gt; findByCategory(category))
+ *     .bulkLoader(() -&gt; findAll())
+ *     .maximumSize(1000)
+ *     .expireAfterWrite(Duration.ofMinutes(10))
+ *     .build();
+ * </pre>
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+@Slf4j
+public final class LookupCache<K, V> implements MeterBinder {
+
+  private static final long NO_JOB_EXECUTION = -1;
+
+  private final String name;
+
+  private final Function<? super K, ? extends V> loader;
+
+  private final Supplier<? extends Map<? extends K, ? extends V>> bulkLoader;
+
+  private final int maximumSize;
+
+  private final long expireAfterWriteNanos;
+
+  private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+  private final LongAdder hits = new LongAdder();
+
+  private final LongAdder misses = new LongAdder();
+
+  private final LongAdder loads = new LongAdder();
+
+  private final LongAdder loadFailures = new LongAdder();
+
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * 캐시를 사용 중인 Job 실행 id -> 진행 중인 Step 수 (beginJobExecution/endJobExecution 과 함께 this 로 동기화)
+   */
+  private final Map<Long, Integer> activeJobExecutions = new HashMap<>();
+
+  private long lastJobExecutionId = NO_JOB_EXECUTION;
+
+  private LookupCache(Builder<K, V> builder) {
+    this.name = builder.name;
+    this.loader = builder.loader;
+    this.bulkLoader = builder.bulkLoader;
+    this.maximumSize = builder.maximumSize;
+    this.expireAfterWriteNanos = builder.expireAfterWrite.toNanos();
+  }
+
+  public static <K, V> Builder<K, V> builder(String name, Function<? super K, ? extends V> loader) {
+    return new Builder<>(name, loader);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * 캐시된 값을 반환하고, 없거나 만료되었으면 loader 로 조회해 저장한 뒤 반환 (loader 결과가 null 이면 null)
+   */
+  public V get(K key) {
+    Entry<V> entry = entries.get(key);
+    if (entry != null && !entry.isExpired(System.nanoTime(), expireAfterWriteNanos)) {
+      hits.increment();
+      return entry.value();
+    }
+
+    misses.increment();
+    entry = entries.compute(key, (k, current) -> {
+      long now = System.nanoTime();
+      // 대기하는 동안 다른 스레드가 이미 적재했으면 그 값을 사용
+      if (current != null && !current.isExpired(now, expireAfterWriteNanos)) {
+        return current;
+      }
+      return new Entry<>(load(k), now);
+    });
+    evictIfNecessary();
+    return entry.value();
+  }
+
+  /**
+   * bulkLoader 결과로 캐시를 채움 (bulkLoader 가 없으면 아무것도 하지 않음)
+   * @return 적재한 항목 수
+   */
+  public int preload() {
+    if (bulkLoader == null) {
+      return 0;
+    }
+    Map<? extends K, ? extends V> values = bulkLoader.get();
+    long now = System.nanoTime();
+    values.forEach((key, value) -> entries.put(key, new Entry<>(value, now)));
+    loads.add(values.size());
+    evictIfNecessary();
+    log.debug("Lookup cache [{}] preloaded: {} entries", name, values.size());
+    return values.size();
+  }
+
+  public void invalidate(K key) {
+    entries.remove(key);
+  }
+
+  public void invalidateAll() {
+    entries.clear();
+  }
+
+  /**
+   * Step 시작 시 호출: 캐시를 쓰는 다른 Job 실행이 없고 직전 실행과 다른 실행이면 이전 실행의 통계를 남기고 캐시를 비움
+   * 같은 Job 실행의 여러 Step(파티션 포함)에서 호출해도 처음 한 번만 비우고,
+   * 다른 Job 실행이 진행 중이면 그 실행이 쓰는 캐시를 비우지 않음
+   * Step 이 끝나면 {@link #endJobExecution(long)} 을 호출해야 함
+   * @return 캐시를 비웠으면 true
+   */
+  public synchronized boolean beginJobExecution(long jobExecutionId) {
+    int steps = activeJobExecutions.merge(jobExecutionId, 1, Integer::sum);
+    if (steps > 1 || jobExecutionId == lastJobExecutionId) {
+      return false;
+    }
+    long previous = lastJobExecutionId;
+    lastJobExecutionId = jobExecutionId;
+    if (activeJobExecutions.size() > 1) {
+      log.debug("Lookup cache [{}] shared by job executions {}", name, activeJobExecutions.keySet());
+      return false;
+    }
+    if (previous != NO_JOB_EXECUTION) {
+      log.info("Lookup cache [{}] invalidated after job execution {}: {}", name, previous, stats());
+    }
+    invalidateAll();
+    return true;
+  }
+
+  /**
+   * Step 종료 시 호출: 해당 Job 실행의 진행 중인 Step 이 모두 끝나면 사용 중인 실행에서 제외
+   */
+  public synchronized void endJobExecution(long jobExecutionId) {
+    activeJobExecutions.computeIfPresent(jobExecutionId, (id, steps) -> steps > 1 ? steps - 1 : null);
+  }
+
+  public Stats stats() {
+    return new Stats(hits.sum(), misses.sum(), loads.sum(), loadFailures.sum(), evictions.sum(), entries.size());
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+        .tag("cache", name).tag("result", "hit")
+        .description("The number of times cache lookup methods have returned a cached value")
+        .register(registry);
+    FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+        .tag("cache", name).tag("result", "miss")
+        .description("The number of times cache lookup methods have returned an uncached (newly loaded) value")
+        .register(registry);
+    FunctionCounter.builder("cache.load", loads, LongAdder::sum)
+        .tag("cache", name).tag("result", "success")
+        .description("The number of entries loaded by the loader or bulk loader")
+        .register(registry);
+    FunctionCounter.builder("cache.load", loadFailures, LongAdder::sum)
+        .tag("cache", name).tag("result", "failure")
+        .description("The number of times the loader threw an exception")
+        .register(registry);
+    FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum)
+        .tag("cache", name)
+        .description("The number of entries evicted by size or expiration")
+        .register(registry);
+    Gauge.builder("cache.size", entries, Map::size)
+        .tag("cache", name)
+        .description("The number of entries in this cache")
+        .register(registry);
+  }
+
+  private V load(K key) {
+    try {
+      V value = loader.apply(key);
+      loads.increment();
+      return value;
+    }
+    catch (RuntimeException e) {
+      loadFailures.increment();
+      throw e;
+    }
+  }
+
+  /**
+   * 만료된 항목을 먼저 제거하고, 그래도 maximumSize 를 넘으면 가장 오래 전에 적재된 항목부터 제거
+   * 한 번에 maximumSize 의 90% 까지 줄여 조회마다 전체를 순회하지 않도록 함
+   */
+  private void evictIfNecessary() {
+    if (entries.size() <= maximumSize) {
+      return;
+    }
+    long now = System.nanoTime();
+    List<Map.Entry<K, Entry<V>>> live = new ArrayList<>(entries.size());
+    for (Map.Entry<K, Entry<V>> entry : entries.entrySet()) {
+      if (entry.getValue().isExpired(now, expireAfterWriteNanos)) {
+        if (entries.remove(entry.getKey(), entry.getValue())) {
+          evictions.increment();
+        }
+      }
+      else {
+        live.add(entry);
+      }
+    }
+
+    int target = maximumSize - maximumSize / 10;
+    if (live.size() <= target) {
+      return;
+    }
+    live.sort(Comparator.comparingLong(entry -> entry.getValue().writtenAt()));
+    for (int i = 0; i < live.size() - target; i++) {
+      Map.Entry<K, Entry<V>> entry = live.get(i);
+      if (entries.remove(entry.getKey(), entry.getValue())) {
+        evictions.increment();
+      }
+    }
+  }
+
+  /**
+   * @param value     loader 결과 (null 포함)
+   * @param writtenAt 적재 시각 (System.nanoTime)
+   */
+  private record Entry<V>(V value, long writtenAt) {
+
+    boolean isExpired(long now, long expireAfterWriteNanos) {
+      return now - writtenAt >= expireAfterWriteNanos;
+    }
+  }
+
+  /**
+   * @param hits         캐시에서 반환한 횟수
+   * @param misses       캐시에 없거나 만료되어 조회가 필요했던 횟수
+   * @param loads        loader/bulkLoader 로 적재한 항목 수
+   * @param loadFailures loader 가 예외를 던진 횟수
+   * @param evictions    크기/만료로 제거한 항목 수
+   * @param size         현재 항목 수
+   */
+  public record Stats(long hits, long misses, long loads, long loadFailures, long evictions, int size) {
+
+    public double hitRate() {
+      long requests = hits + misses;
+      return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+  }
+
+  public static final class Builder<K, V> {
+
+    private final String name;
+
+    private final Function<? super K, ? extends V> loader;
+
+    private Supplier<? extends Map<? extends K, ? extends V>> bulkLoader;
+
+    private int maximumSize = 10_000;
+
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+    private Builder(String name, Function<? super K, ? extends V> loader) {
+      this.name = name;
+      this.loader = loader;
+    }
+
+    public Builder<K, V> bulkLoader(Supplier<? extends Map<? extends K, ? extends V>> bulkLoader) {
+      this.bulkLoader = bulkLoader;
+      return this;
+    }
+
+    public Builder<K, V> maximumSize(int maximumSize) {
+      if (maximumSize <= 0) {
+        throw new IllegalArgumentException("maximumSize must be greater than 0");
+      }
+      this.maximumSize = maximumSize;
+      return this;
+    }
+
+    public Builder<K, V> expireAfterWrite(Duration expireAfterWrite) {
+      if (expireAfterWrite.isNegative() || expireAfterWrite.isZero()) {
+        throw new IllegalArgumentException("expireAfterWrite must be positive");
+      }
+      this.expireAfterWrite = expireAfterWrite;
+      return this;
+    }
+
+    public LookupCache<K, V> build() {
+      return new LookupCache<>(this);
+    }
+  }
+}
@@ -0,0 +1,182 @@
+package com.example.batch.chunk;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.repeat.policy.SimpleCompletionPolicy;
+
+import java.time.Duration;
+
+/**
+ * 측정한 chunk 처리 시간에 맞춰 chunk 크기를 조정하는 CompletionPolicy
+ * chunk 마다 트랜잭션 시작부터 커밋까지 걸린 시간(beforeChunk ~ afterChunk)을 item 수로 나누어 item 당 시간을 구하고(지수 이동 평균),
+ * targetDuration 안에 끝날 item 수를 다음 chunk 크기로 사용함
+ *
+ * <ul>
+ *   <li>한 번에 최대 2배까지 늘리고 절반까지 줄이며, minSize ~ maxSize 범위를 벗어나지 않음</li>
+ *   <li>heap 사용률이 maxHeapUsage 를 넘으면 늘리지 않고 절반으로 줄임</li>
+ *   <li>chunk 처리 중 오류가 나면 절반으로 줄임</li>
+ * </ul>
+ *
+ * 선택한 크기는 Step 의 ExecutionContext({@link #CHUNK_SIZE_KEY}, {@link #MIN_CHUNK_SIZE_KEY}, {@link #MAX_CHUNK_SIZE_KEY})와
+ * chunk 마다 크기를 기록하는 Micrometer DistributionSummary {@value #METRIC_NAME} (tag: job.name, step.name)로 확인할 수 있음
+ * (같은 Step 이 동시에 여러 번 실행되어도 값을 덮어쓰지 않고 모든 실행의 chunk 크기가 함께 집계됨)
+ *
+ * Step 의 listener(StepExecutionListener, ChunkListener)로도 등록해야 하며, Step 실행마다 새 인스턴스를 사용해야 함 (@StepScope)
+ * 여러 스레드에서 동시에 사용하면 안 됨 (multi-threaded Step 에는 사용하지 않음)
+ */
+@Slf4j
+public class AdaptiveCompletionPolicy extends SimpleCompletionPolicy implements ChunkListener, StepExecutionListener {
+
+  public static final String CHUNK_SIZE_KEY = "adaptive.chunk.size";
+
+  public static final String MIN_CHUNK_SIZE_KEY = "adaptive.chunk.size.min";
+
+  public static final String MAX_CHUNK_SIZE_KEY = "adaptive.chunk.size.max";
+
+  public static final String METRIC_NAME = "spring.batch.chunk.size";
+
+  /**
+   * 지수 이동 평균에서 최근 chunk 의 가중치
+   */
+  private static final double SMOOTHING = 0.3;
+
+  private final int initialSize;
+
+  private final int minSize;
+
+  private final int maxSize;
+
+  private final long targetNanos;
+
+  private final double maxHeapUsage;
+
+  private final MeterRegistry meterRegistry;
+
+  private DistributionSummary chunkSizes;
+
+  private double nanosPerItem;
+
+  private long chunkStartNanos;
+
+  private long readCountBefore;
+
+  private int chosenMin;
+
+  private int chosenMax;
+
+  /**
+   * @param initialSize    첫 chunk 크기 (minSize ~ maxSize 로 보정)
+   * @param minSize        최소 chunk 크기
+   * @param maxSize        최대 chunk 크기
+   * @param targetDuration chunk 하나(트랜잭션 하나)의 목표 처리 시간
+   * @param maxHeapUsage   chunk 크기를 늘리지 않는 heap 사용률 (0 ~ 1, 최대 heap 기준)
+   * @param meterRegistry  {@value #METRIC_NAME} summary 를 등록할 registry
+   */
+  public AdaptiveCompletionPolicy(int initialSize, int minSize, int maxSize, Duration targetDuration, double maxHeapUsage,
+                                  MeterRegistry meterRegistry) {
+    if (minSize <= 0 || maxSize < minSize) {
+      throw new IllegalArgumentException("chunk size bounds must satisfy 0 < minSize <= maxSize: " + minSize + ", " + maxSize);
+    }
+    if (targetDuration.isNegative() || targetDuration.isZero()) {
+      throw new IllegalArgumentException("targetDuration must be positive");
+    }
+    this.initialSize = clamp(initialSize, minSize, maxSize);
+    this.minSize = minSize;
+    this.maxSize = maxSize;
+    this.targetNanos = targetDuration.toNanos();
+    this.maxHeapUsage = maxHeapUsage;
+    this.meterRegistry = meterRegistry;
+    setChunkSize(this.initialSize);
+  }
+
+  @Override
+  public void beforeStep(StepExecution stepExecution) {
+    // 재시작이면 이전 실행에서 마지막으로 선택한 크기부터 시작
+    int size = clamp(stepExecution.getExecutionContext().getInt(CHUNK_SIZE_KEY, initialSize), minSize, maxSize);
+    setChunkSize(size);
+    nanosPerItem = 0;
+    chosenMin = size;
+    chosenMax = size;
+
+    // 이미 등록된 summary 면 registry 가 기존 summary 를 돌려주므로 같은 Step 의 실행들이 함께 기록함
+    chunkSizes = DistributionSummary.builder(METRIC_NAME)
+        .description("Chunk size chosen by AdaptiveCompletionPolicy")
+        .baseUnit("items")
+        .tag("job.name", stepExecution.getJobExecution().getJobInstance().getJobName())
+        .tag("step.name", stepExecution.getStepName())
+        .register(meterRegistry);
+    record(stepExecution, size);
+  }
+
+  @Override
+  public ExitStatus afterStep(StepExecution stepExecution) {
+    stepExecution.getExecutionContext().putInt(MIN_CHUNK_SIZE_KEY, chosenMin);
+    stepExecution.getExecutionContext().putInt(MAX_CHUNK_SIZE_KEY, chosenMax);
+    log.info("Adaptive chunk size [{}]: last {}, min {}, max {}, {} ns/item",
+        stepExecution.getStepName(), getChunkSize(), chosenMin, chosenMax, Math.round(nanosPerItem));
+    return null;
+  }
+
+  @Override
+  public void beforeChunk(ChunkContext context) {
+    chunkSizes.record(getChunkSize());
+    chunkStartNanos = System.nanoTime();
+    readCountBefore = context.getStepContext().getStepExecution().getReadCount();
+  }
+
+  @Override
+  public void afterChunk(ChunkContext context) {
+    long elapsed = System.nanoTime() - chunkStartNanos;
+    StepExecution stepExecution = context.getStepContext().getStepExecution();
+    long items = stepExecution.getReadCount() - readCountBefore;
+    if (items <= 0 || elapsed <= 0) {
+      return;
+    }
+
+    double sample = (double) elapsed / items;
+    nanosPerItem = nanosPerItem == 0 ? sample : SMOOTHING * sample + (1 - SMOOTHING) * nanosPerItem;
+
+    int current = getChunkSize();
+    long desired = (long) (targetNanos / nanosPerItem);
+    int next = (int) Math.max(current / 2, Math.min((long) current * 2, desired));
+    if (heapUsage() > maxHeapUsage) {
+      next = Math.min(next, current / 2);
+    }
+    resize(stepExecution, next);
+  }
+
+  @Override
+  public void afterChunkError(ChunkContext context) {
+    resize(context.getStepContext().getStepExecution(), getChunkSize() / 2);
+  }
+
+  private void resize(StepExecution stepExecution, int size) {
+    int next = clamp(size, minSize, maxSize);
+    if (next != getChunkSize()) {
+      log.debug("Adaptive chunk size [{}]: {} -> {}", stepExecution.getStepName(), getChunkSize(), next);
+      setChunkSize(next);
+    }
+    chosenMin = Math.min(chosenMin, next);
+    chosenMax = Math.max(chosenMax, next);
+    record(stepExecution, next);
+  }
+
+  private void record(StepExecution stepExecution, int size) {
+    stepExecution.getExecutionContext().putInt(CHUNK_SIZE_KEY, size);
+  }
+
+  private static double heapUsage() {
+    Runtime runtime = Runtime.getRuntime();
+    return (double) (runtime.totalMemory() - runtime.freeMemory()) / runtime.maxMemory();
+  }
+
+  private static int clamp(int value, int min, int max) {
+    return Math.max(min, Math.min(max, value));
+  }
+}
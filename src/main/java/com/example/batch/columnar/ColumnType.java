@@ -0,0 +1,38 @@
+package com.example.batch.columnar;
+
+/**
+ * 컬럼형 캐시 파일의 컬럼 타입
+ * 고정 폭 타입은 row group 안에서 null 여부와 관계없이 row 마다 같은 크기를 차지하고,
+ * STRING 은 null 이 아닌 값만 [int 바이트 길이][UTF-8 바이트] 로 기록됨
+ */
+public enum ColumnType {
+
+  LONG(8),
+  INT(4),
+  /**
+   * BigDecimal 을 unscaled long + int scale 로 기록 (unscaled 값이 long 범위 안이면 scale 과 관계없이 그대로 보존)
+   */
+  DECIMAL(12),
+  /**
+   * LocalDateTime 을 UTC 기준 epoch second(long) + nano(int) 로 기록
+   */
+  TIMESTAMP(12),
+  STRING(-1);
+
+  private final int fixedWidth;
+
+  ColumnType(int fixedWidth) {
+    this.fixedWidth = fixedWidth;
+  }
+
+  public boolean isFixedWidth() {
+    return fixedWidth > 0;
+  }
+
+  /**
+   * 고정 폭 타입의 값 하나의 바이트 수 (STRING 은 -1)
+   */
+  public int getFixedWidth() {
+    return fixedWidth;
+  }
+}
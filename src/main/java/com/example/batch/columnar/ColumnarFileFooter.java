@@ -0,0 +1,200 @@
+package com.example.batch.columnar;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 컬럼형 캐시 파일의 footer (컬럼 구성, 원본 식별 정보, row group 인덱스)
+ *
+ * <pre>
+ * 파일 구조
+ *   [MAGIC][int version]
+ *   [row group]...                 row group = [int rows][int chunk 길이 x 컬럼 수][컬럼 chunk]...
+ *                                  컬럼 chunk = [null 비트맵 (rows + 7) / 8 byte][값]
+ *   [footer][int footer 길이][MAGIC]
+ * </pre>
+ *
+ * footer 의 row group 인덱스(offset, 길이, row 수)로 재시작 시 row group 단위로 건너뛸 수 있음
+ */
+public final class ColumnarFileFooter {
+
+  static final byte[] MAGIC = {'C', 'B', 'C', '1'};
+
+  /**
+   * 파일 형식 버전 (2: DECIMAL 값마다 scale 기록), 다른 버전의 파일은 읽지 않고 캐시를 다시 만듦
+   */
+  static final int VERSION = 2;
+
+  static final int HEADER_LENGTH = MAGIC.length + 4;
+
+  private static final int TRAILER_LENGTH = 4 + MAGIC.length;
+
+  private final List<ColumnDescriptor> columns;
+
+  private final SourceFingerprint source;
+
+  private final long rowCount;
+
+  private final long[] groupOffsets;
+
+  private final int[] groupLengths;
+
+  private final int[] groupRows;
+
+  ColumnarFileFooter(List<ColumnDescriptor> columns, SourceFingerprint source, long rowCount,
+                     long[] groupOffsets, int[] groupLengths, int[] groupRows) {
+    this.columns = columns;
+    this.source = source;
+    this.rowCount = rowCount;
+    this.groupOffsets = groupOffsets;
+    this.groupLengths = groupLengths;
+    this.groupRows = groupRows;
+  }
+
+  /**
+   * 캐시 파일의 footer 를 읽음
+   * @throws IOException 파일을 읽을 수 없거나 캐시 파일 형식이 아니거나 버전이 다른 경우
+   */
+  public static ColumnarFileFooter read(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return read(channel);
+    }
+  }
+
+  static ColumnarFileFooter read(FileChannel channel) throws IOException {
+    long size = channel.size();
+    if (size < HEADER_LENGTH + TRAILER_LENGTH) {
+      throw new IOException("Not a columnar cache file (too short)");
+    }
+
+    ByteBuffer trailer = ByteBuffer.allocate(TRAILER_LENGTH);
+    readFully(channel, trailer, size - TRAILER_LENGTH);
+    int footerLength = trailer.getInt(0);
+    for (int i = 0; i < MAGIC.length; i++) {
+      if (trailer.get(4 + i) != MAGIC[i]) {
+        throw new IOException("Not a columnar cache file (bad magic)");
+      }
+    }
+    ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+    readFully(channel, header, 0);
+    int version = header.getInt(MAGIC.length);
+    if (version != VERSION) {
+      throw new IOException("Unsupported columnar cache file version " + version + " (expected " + VERSION + ")");
+    }
+    if (footerLength <= 0 || footerLength > size - HEADER_LENGTH - TRAILER_LENGTH) {
+      throw new IOException("Corrupt columnar cache file (footer length " + footerLength + ")");
+    }
+
+    ByteBuffer footer = ByteBuffer.allocate(footerLength);
+    readFully(channel, footer, size - TRAILER_LENGTH - footerLength);
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(footer.array()));
+
+    int columnCount = in.readInt();
+    List<ColumnDescriptor> columns = new ArrayList<>(columnCount);
+    ColumnType[] types = ColumnType.values();
+    for (int i = 0; i < columnCount; i++) {
+      String name = in.readUTF();
+      int type = in.readUnsignedByte();
+      if (type >= types.length) {
+        throw new IOException("Corrupt columnar cache file (column type " + type + ")");
+      }
+      columns.add(new ColumnDescriptor(name, types[type], in.readInt()));
+    }
+
+    SourceFingerprint source = new SourceFingerprint(in.readLong(), in.readLong(), in.readLong());
+    long rowCount = in.readLong();
+
+    int groupCount = in.readInt();
+    long[] groupOffsets = new long[groupCount];
+    int[] groupLengths = new int[groupCount];
+    int[] groupRows = new int[groupCount];
+    for (int i = 0; i < groupCount; i++) {
+      groupOffsets[i] = in.readLong();
+      groupLengths[i] = in.readInt();
+      groupRows[i] = in.readInt();
+    }
+    return new ColumnarFileFooter(columns, source, rowCount, groupOffsets, groupLengths, groupRows);
+  }
+
+  void write(DataOutputStream out) throws IOException {
+    out.writeInt(columns.size());
+    for (ColumnDescriptor column : columns) {
+      out.writeUTF(column.name());
+      out.writeByte(column.type().ordinal());
+      out.writeInt(column.scale());
+    }
+
+    out.writeLong(source.size());
+    out.writeLong(source.lastModified());
+    out.writeLong(source.checksum());
+    out.writeLong(rowCount);
+
+    out.writeInt(groupOffsets.length);
+    for (int i = 0; i < groupOffsets.length; i++) {
+      out.writeLong(groupOffsets[i]);
+      out.writeInt(groupLengths[i]);
+      out.writeInt(groupRows[i]);
+    }
+  }
+
+  static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+    while (buffer.hasRemaining()) {
+      int read = channel.read(buffer, position + buffer.position());
+      if (read < 0) {
+        throw new IOException("Unexpected end of columnar cache file");
+      }
+    }
+  }
+
+  public List<ColumnDescriptor> getColumns() {
+    return columns;
+  }
+
+  public SourceFingerprint getSource() {
+    return source;
+  }
+
+  public long getRowCount() {
+    return rowCount;
+  }
+
+  public int getGroupCount() {
+    return groupOffsets.length;
+  }
+
+  long getGroupOffset(int group) {
+    return groupOffsets[group];
+  }
+
+  int getGroupLength(int group) {
+    return groupLengths[group];
+  }
+
+  int getGroupRows(int group) {
+    return groupRows[group];
+  }
+
+  int getMaxGroupLength() {
+    int max = 0;
+    for (int length : groupLengths) {
+      max = Math.max(max, length);
+    }
+    return max;
+  }
+
+  /**
+   * @param name  컬럼 이름
+   * @param type  컬럼 타입
+   * @param scale DECIMAL 컬럼의 소수 자릿수 (그 외 0)
+   */
+  public record ColumnDescriptor(String name, ColumnType type, int scale) {
+  }
+}
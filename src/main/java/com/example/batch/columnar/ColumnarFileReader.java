@@ -0,0 +1,149 @@
+package com.example.batch.columnar;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 컬럼형 캐시 파일을 row group 단위로 읽어 객체로 복원하는 reader
+ * row group 하나를 FileChannel 로 재사용 heap 버퍼에 읽은 뒤, 컬럼마다 현재 위치를 따라가며 값을 바로 setter 에 전달함
+ * (텍스트 토큰화/숫자 파싱 없이 고정 폭 값과 길이 접두 문자열만 디코딩)
+ * The implementation is <b>not</b> thread-safe.
+ *
+ * @param <T> 복원할 객체 타입
+ */
+public class ColumnarFileReader<T> implements Closeable {
+
+  private final ColumnarSchema<T> schema;
+
+  private final List<ColumnarSchema.Column<T>> columns;
+
+  private final FileChannel channel;
+
+  private final ColumnarFileFooter footer;
+
+  private final ByteBuffer buffer;
+
+  private final int[] bitmapOffsets;
+
+  private final int[] positions;
+
+  private int group = -1;
+
+  private int groupRows;
+
+  private int row;
+
+  public ColumnarFileReader(Path path, ColumnarSchema<T> schema) throws IOException {
+    this.schema = schema;
+    this.columns = schema.getColumns();
+    this.channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      this.footer = ColumnarFileFooter.read(channel);
+      if (!schema.matches(footer.getColumns())) {
+        throw new IOException("Columnar cache file columns " + footer.getColumns() + " do not match the schema");
+      }
+    }
+    catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+    this.buffer = ByteBuffer.allocate(footer.getMaxGroupLength());
+    this.bitmapOffsets = new int[columns.size()];
+    this.positions = new int[columns.size()];
+  }
+
+  public ColumnarFileFooter getFooter() {
+    return footer;
+  }
+
+  /**
+   * 다음 객체를 반환, 더 이상 없으면 null
+   */
+  public T next() throws IOException {
+    if (!nextRow()) {
+      return null;
+    }
+    T item = schema.newInstance();
+    for (int c = 0; c < columns.size(); c++) {
+      ColumnarSchema.Column<T> column = columns.get(c);
+      if (isNull(c)) {
+        positions[c] += column.type().isFixedWidth() ? column.type().getFixedWidth() : 0;
+      }
+      else {
+        positions[c] += column.decoder().decode(item, buffer, positions[c]);
+      }
+    }
+    row++;
+    return item;
+  }
+
+  /**
+   * count 개의 row 를 객체로 만들지 않고 건너뜀
+   * footer 인덱스로 row group 전체를 건너뛴 뒤, 남은 row 만 컬럼 위치를 이동시킴
+   */
+  public void skip(long count) throws IOException {
+    long remaining = count;
+    if (group < 0) {
+      int next = 0;
+      while (next < footer.getGroupCount() && remaining >= footer.getGroupRows(next)) {
+        remaining -= footer.getGroupRows(next);
+        next++;
+      }
+      group = next - 1;
+      groupRows = 0;
+      row = 0;
+    }
+    while (remaining > 0 && nextRow()) {
+      for (int c = 0; c < columns.size(); c++) {
+        ColumnType type = columns.get(c).type();
+        if (type.isFixedWidth()) {
+          positions[c] += type.getFixedWidth();
+        }
+        else if (!isNull(c)) {
+          positions[c] += 4 + buffer.getInt(positions[c]);
+        }
+      }
+      row++;
+      remaining--;
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  private boolean nextRow() throws IOException {
+    while (row >= groupRows) {
+      if (group + 1 >= footer.getGroupCount()) {
+        return false;
+      }
+      loadGroup(++group);
+    }
+    return true;
+  }
+
+  private void loadGroup(int index) throws IOException {
+    buffer.clear().limit(footer.getGroupLength(index));
+    ColumnarFileFooter.readFully(channel, buffer, footer.getGroupOffset(index));
+
+    groupRows = buffer.getInt(0);
+    row = 0;
+    int offset = 4 + 4 * columns.size();
+    int bitmapLength = (groupRows + 7) / 8;
+    for (int c = 0; c < columns.size(); c++) {
+      bitmapOffsets[c] = offset;
+      positions[c] = offset + bitmapLength;
+      offset += buffer.getInt(4 + 4 * c);
+    }
+  }
+
+  private boolean isNull(int column) {
+    return (buffer.get(bitmapOffsets[column] + (row >> 3)) & (1 << (row & 7))) != 0;
+  }
+}
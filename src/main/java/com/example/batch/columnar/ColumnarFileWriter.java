@@ -0,0 +1,243 @@
+package com.example.batch.columnar;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 객체를 rowGroupSize 개씩 모아 컬럼형 캐시 파일로 기록하는 writer
+ * writer 마다 대상 파일과 같은 디렉터리에 만든 고유한 임시 파일(target 이름 + 난수 + ".tmp")에 기록한 뒤 {@link #commit()} 에서 footer 를 쓰고 대상 파일로 원자적으로 이동하므로,
+ * 변환 도중 실패해도 불완전한 캐시 파일이 남지 않음 ({@link #close()} 는 commit 되지 않은 임시 파일을 삭제)
+ * 같은 대상 파일을 동시에 변환해도 임시 파일을 공유하지 않으므로, 마지막으로 commit 한 완전한 파일이 남음
+ * The implementation is <b>not</b> thread-safe.
+ *
+ * @param <T> 기록할 객체 타입
+ */
+public class ColumnarFileWriter<T> implements Closeable {
+
+  public static final int DEFAULT_ROW_GROUP_SIZE = 8192;
+
+  private final Path target;
+
+  private final Path temp;
+
+  private final ColumnarSchema<T> schema;
+
+  private final SourceFingerprint source;
+
+  private final int rowGroupSize;
+
+  private final FileChannel channel;
+
+  private final ColumnChunk[] chunks;
+
+  private final List<long[]> groups = new ArrayList<>();
+
+  private int groupRows;
+
+  private long rowCount;
+
+  private long position;
+
+  private boolean committed;
+
+  public ColumnarFileWriter(Path target, ColumnarSchema<T> schema, SourceFingerprint source, int rowGroupSize) throws IOException {
+    if (rowGroupSize <= 0) {
+      throw new IllegalArgumentException("rowGroupSize must be greater than 0");
+    }
+    this.target = target;
+    this.schema = schema;
+    this.source = source;
+    this.rowGroupSize = rowGroupSize;
+
+    Path directory = target.toAbsolutePath().getParent();
+    Files.createDirectories(directory);
+    this.temp = Files.createTempFile(directory, target.getFileName() + ".", ".tmp");
+    try {
+      this.channel = FileChannel.open(temp, StandardOpenOption.WRITE);
+    } catch (IOException e) {
+      Files.deleteIfExists(temp);
+      throw e;
+    }
+
+    List<ColumnarSchema.Column<T>> columns = schema.getColumns();
+    this.chunks = new ColumnChunk[columns.size()];
+    for (int i = 0; i < chunks.length; i++) {
+      chunks[i] = new ColumnChunk(columns.get(i).type());
+    }
+
+    ByteBuffer header = ByteBuffer.allocate(ColumnarFileFooter.HEADER_LENGTH);
+    header.put(ColumnarFileFooter.MAGIC).putInt(ColumnarFileFooter.VERSION).flip();
+    writeFully(header);
+  }
+
+  /**
+   * @throws IllegalArgumentException 컬럼 타입으로 표현할 수 없는 값 (row 번호와 컬럼 이름 포함)
+   */
+  public void write(T item) throws IOException {
+    List<ColumnarSchema.Column<T>> columns = schema.getColumns();
+    for (int i = 0; i < chunks.length; i++) {
+      ColumnChunk chunk = chunks[i];
+      boolean written;
+      try {
+        written = columns.get(i).encoder().encode(item, chunk.out);
+      }
+      catch (ArithmeticException e) {
+        throw new IllegalArgumentException("Row " + (rowCount + 1) + " column '" + columns.get(i).descriptor().name()
+            + "' cannot be stored as " + columns.get(i).type() + ": " + e.getMessage(), e);
+      }
+      if (!written) {
+        chunk.nulls.set(groupRows);
+        chunk.writeNullSlot();
+      }
+    }
+    groupRows++;
+    rowCount++;
+    if (groupRows == rowGroupSize) {
+      flushGroup();
+    }
+  }
+
+  public long getRowCount() {
+    return rowCount;
+  }
+
+  /**
+   * 남은 row group 과 footer 를 기록하고 임시 파일을 대상 파일로 이동
+   */
+  public void commit() throws IOException {
+    flushGroup();
+
+    long[] offsets = new long[groups.size()];
+    int[] lengths = new int[groups.size()];
+    int[] rows = new int[groups.size()];
+    for (int i = 0; i < groups.size(); i++) {
+      long[] group = groups.get(i);
+      offsets[i] = group[0];
+      lengths[i] = (int) group[1];
+      rows[i] = (int) group[2];
+    }
+    List<ColumnarFileFooter.ColumnDescriptor> descriptors = new ArrayList<>(chunks.length);
+    for (ColumnarSchema.Column<T> column : schema.getColumns()) {
+      descriptors.add(column.descriptor());
+    }
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    new ColumnarFileFooter(descriptors, source, rowCount, offsets, lengths, rows).write(out);
+    int footerLength = bytes.size();
+    out.writeInt(footerLength);
+    out.write(ColumnarFileFooter.MAGIC);
+    writeFully(ByteBuffer.wrap(bytes.toByteArray()));
+
+    channel.force(true);
+    channel.close();
+    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    committed = true;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (channel.isOpen()) {
+      channel.close();
+    }
+    if (!committed) {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  private void flushGroup() throws IOException {
+    if (groupRows == 0) {
+      return;
+    }
+    int bitmapLength = (groupRows + 7) / 8;
+    int length = 4 + 4 * chunks.length;
+    for (ColumnChunk chunk : chunks) {
+      length += bitmapLength + chunk.bytes.size();
+    }
+
+    ByteBuffer buffer = ByteBuffer.allocate(length);
+    buffer.putInt(groupRows);
+    for (ColumnChunk chunk : chunks) {
+      buffer.putInt(bitmapLength + chunk.bytes.size());
+    }
+    for (ColumnChunk chunk : chunks) {
+      byte[] bitmap = chunk.nulls.toByteArray();
+      buffer.put(bitmap);
+      buffer.position(buffer.position() + bitmapLength - bitmap.length);
+      chunk.bytes.writeTo(new ByteBufferOutput(buffer));
+      chunk.reset();
+    }
+    buffer.flip();
+
+    groups.add(new long[]{position, length, groupRows});
+    writeFully(buffer);
+    groupRows = 0;
+  }
+
+  private void writeFully(ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      position += channel.write(buffer);
+    }
+  }
+
+  /**
+   * row group 하나 동안 컬럼 하나의 값과 null 비트맵을 모아 두는 버퍼 (row group 마다 재사용)
+   */
+  private static final class ColumnChunk {
+
+    private final int nullSlotWidth;
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    private final DataOutputStream out = new DataOutputStream(bytes);
+
+    private final BitSet nulls = new BitSet();
+
+    ColumnChunk(ColumnType type) {
+      // 고정 폭 컬럼은 null 도 자리를 차지해야 row 위치로 바로 접근할 수 있음
+      this.nullSlotWidth = type.isFixedWidth() ? type.getFixedWidth() : 0;
+    }
+
+    void writeNullSlot() throws IOException {
+      for (int i = 0; i < nullSlotWidth; i++) {
+        out.write(0);
+      }
+    }
+
+    void reset() {
+      bytes.reset();
+      nulls.clear();
+    }
+  }
+
+  private static final class ByteBufferOutput extends OutputStream {
+
+    private final ByteBuffer buffer;
+
+    ByteBufferOutput(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public void write(int b) {
+      buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      buffer.put(b, off, len);
+    }
+  }
+}
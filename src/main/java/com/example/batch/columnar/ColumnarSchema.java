@@ -0,0 +1,201 @@
+package com.example.batch.columnar;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 객체 타입과 컬럼형 캐시 파일 컬럼 사이의 매핑
+ * 컬럼마다 getter/setter 를 직접 연결하므로 쓰기/읽기 모두 리플렉션 없이 동작함
+ *
+ * <pre>
+ * ColumnarSchema.builder(Product::new)
+ *     .longColumn("id", Product::getId, Product::setId)
+ *     .stringColumn("name", Product::getName, Product::setName)
+ *     .build();
+ * </pre>
+ *
+ * @param <T> 매핑 대상 타입
+ */
+public final class ColumnarSchema<T> {
+
+  private final Supplier<T> factory;
+
+  private final List<Column<T>> columns;
+
+  private ColumnarSchema(Supplier<T> factory, List<Column<T>> columns) {
+    this.factory = factory;
+    this.columns = Collections.unmodifiableList(columns);
+  }
+
+  public static <T> Builder<T> builder(Supplier<T> factory) {
+    return new Builder<>(factory);
+  }
+
+  T newInstance() {
+    return factory.get();
+  }
+
+  List<Column<T>> getColumns() {
+    return columns;
+  }
+
+  /**
+   * 파일 footer 에 기록된 컬럼 구성이 이 스키마와 같은지 확인
+   */
+  boolean matches(List<ColumnarFileFooter.ColumnDescriptor> descriptors) {
+    if (descriptors.size() != columns.size()) {
+      return false;
+    }
+    for (int i = 0; i < columns.size(); i++) {
+      if (!columns.get(i).descriptor().equals(descriptors.get(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public static final class Builder<T> {
+
+    private final Supplier<T> factory;
+
+    private final List<Column<T>> columns = new ArrayList<>();
+
+    private Builder(Supplier<T> factory) {
+      this.factory = factory;
+    }
+
+    public Builder<T> longColumn(String name, Function<T, Long> getter, BiConsumer<T, Long> setter) {
+      return add(name, ColumnType.LONG, 0,
+          (item, out) -> {
+            Long value = getter.apply(item);
+            if (value == null) {
+              return false;
+            }
+            out.writeLong(value);
+            return true;
+          },
+          (item, buffer, position) -> {
+            setter.accept(item, buffer.getLong(position));
+            return ColumnType.LONG.getFixedWidth();
+          });
+    }
+
+    public Builder<T> intColumn(String name, Function<T, Integer> getter, BiConsumer<T, Integer> setter) {
+      return add(name, ColumnType.INT, 0,
+          (item, out) -> {
+            Integer value = getter.apply(item);
+            if (value == null) {
+              return false;
+            }
+            out.writeInt(value);
+            return true;
+          },
+          (item, buffer, position) -> {
+            setter.accept(item, buffer.getInt(position));
+            return ColumnType.INT.getFixedWidth();
+          });
+    }
+
+    /**
+     * 소수 자릿수가 scale 보다 적은 값은 scale 에 맞춰 기록하고, 더 많은 값은 자신의 scale 그대로 기록
+     * (텍스트 원본을 읽은 값과 같은 값으로 복원되며, unscaled 값이 long 범위를 넘으면 ArithmeticException)
+     */
+    public Builder<T> decimalColumn(String name, int scale, Function<T, BigDecimal> getter, BiConsumer<T, BigDecimal> setter) {
+      return add(name, ColumnType.DECIMAL, scale,
+          (item, out) -> {
+            BigDecimal value = getter.apply(item);
+            if (value == null) {
+              return false;
+            }
+            BigDecimal scaled = value.scale() < scale ? value.setScale(scale) : value;
+            out.writeLong(scaled.unscaledValue().longValueExact());
+            out.writeInt(scaled.scale());
+            return true;
+          },
+          (item, buffer, position) -> {
+            setter.accept(item, BigDecimal.valueOf(buffer.getLong(position), buffer.getInt(position + 8)));
+            return ColumnType.DECIMAL.getFixedWidth();
+          });
+    }
+
+    public Builder<T> timestampColumn(String name, Function<T, LocalDateTime> getter, BiConsumer<T, LocalDateTime> setter) {
+      return add(name, ColumnType.TIMESTAMP, 0,
+          (item, out) -> {
+            LocalDateTime value = getter.apply(item);
+            if (value == null) {
+              return false;
+            }
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+            return true;
+          },
+          (item, buffer, position) -> {
+            setter.accept(item, LocalDateTime.ofEpochSecond(buffer.getLong(position), buffer.getInt(position + 8), ZoneOffset.UTC));
+            return ColumnType.TIMESTAMP.getFixedWidth();
+          });
+    }
+
+    public Builder<T> stringColumn(String name, Function<T, String> getter, BiConsumer<T, String> setter) {
+      return add(name, ColumnType.STRING, 0,
+          (item, out) -> {
+            String value = getter.apply(item);
+            if (value == null) {
+              return false;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+            return true;
+          },
+          (item, buffer, position) -> {
+            int length = buffer.getInt(position);
+            // heap 버퍼의 backing array 에서 바로 디코딩 (중간 byte[] 복사 없음)
+            setter.accept(item, new String(buffer.array(), buffer.arrayOffset() + position + 4, length, StandardCharsets.UTF_8));
+            return 4 + length;
+          });
+    }
+
+    public ColumnarSchema<T> build() {
+      return new ColumnarSchema<>(factory, new ArrayList<>(columns));
+    }
+
+    private Builder<T> add(String name, ColumnType type, int scale, Encoder<T> encoder, Decoder<T> decoder) {
+      columns.add(new Column<>(new ColumnarFileFooter.ColumnDescriptor(name, type, scale), encoder, decoder));
+      return this;
+    }
+  }
+
+  /**
+   * 값을 out 에 기록하고 true 를 반환, 값이 null 이면 아무것도 기록하지 않고 false 를 반환
+   */
+  @FunctionalInterface
+  interface Encoder<T> {
+    boolean encode(T item, DataOutputStream out) throws IOException;
+  }
+
+  /**
+   * position 의 값을 item 에 설정하고 읽은 바이트 수를 반환
+   */
+  @FunctionalInterface
+  interface Decoder<T> {
+    int decode(T item, ByteBuffer buffer, int position);
+  }
+
+  record Column<T>(ColumnarFileFooter.ColumnDescriptor descriptor, Encoder<T> encoder, Decoder<T> decoder) {
+
+    ColumnType type() {
+      return descriptor.type();
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package com.example.batch.columnar;
+
+import com.example.batch.entity.Customer;
+import com.example.batch.entity.Product;
+
+/**
+ * 샘플 엔티티의 컬럼형 캐시 스키마
+ */
+public final class ColumnarSchemas {
+
+  /**
+   * product.price 는 DECIMAL(10, 2) 이므로 scale 2 로 맞춰 기록 (CSV 에 소수 자릿수가 더 많은 값은 읽은 값 그대로 보존)
+   */
+  public static final ColumnarSchema<Product> PRODUCT = ColumnarSchema.builder(Product::new)
+      .longColumn("id", Product::getId, Product::setId)
+      .stringColumn("name", Product::getName, Product::setName)
+      .decimalColumn("price", 2, Product::getPrice, Product::setPrice)
+      .stringColumn("category", Product::getCategory, Product::setCategory)
+      .intColumn("stock", Product::getStock, Product::setStock)
+      .build();
+
+  public static final ColumnarSchema<Customer> CUSTOMER = ColumnarSchema.builder(Customer::new)
+      .longColumn("id", Customer::getId, Customer::setId)
+      .stringColumn("firstName", Customer::getFirstName, Customer::setFirstName)
+      .stringColumn("lastName", Customer::getLastName, Customer::setLastName)
+      .stringColumn("email", Customer::getEmail, Customer::setEmail)
+      .intColumn("age", Customer::getAge, Customer::setAge)
+      .timestampColumn("createdAt", Customer::getCreatedAt, Customer::setCreatedAt)
+      .build();
+
+  private ColumnarSchemas() {
+  }
+}
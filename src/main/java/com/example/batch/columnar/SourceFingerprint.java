@@ -0,0 +1,38 @@
+package com.example.batch.columnar;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * 캐시 파일을 만든 원본 텍스트 파일의 식별 정보
+ * 크기, 수정 시각, CRC32 중 하나라도 다르면 캐시를 다시 만들어야 함
+ *
+ * @param size         원본 파일 크기 (byte)
+ * @param lastModified 원본 파일 수정 시각 (epoch millis)
+ * @param checksum     원본 파일 전체의 CRC32
+ */
+public record SourceFingerprint(long size, long lastModified, long checksum) {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  public static SourceFingerprint of(Path path) throws IOException {
+    long size = Files.size(path);
+    long lastModified = Files.getLastModifiedTime(path).toMillis();
+
+    CRC32 crc = new CRC32();
+    ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      while (channel.read(buffer) > 0) {
+        buffer.flip();
+        crc.update(buffer);
+        buffer.clear();
+      }
+    }
+    return new SourceFingerprint(size, lastModified, crc.getValue());
+  }
+}
@@ -1,23 +1,57 @@
 package com.example.batch.config;
 
+import com.example.batch.chunk.AdaptiveCompletionPolicy;
+import com.example.batch.columnar.ColumnarCacheTasklet;
+import com.example.batch.columnar.ColumnarSchemas;
 import com.example.batch.entity.Customer;
 import com.example.batch.entity.CustomerProcessed;
 import com.example.batch.entity.Product;
+import com.example.batch.launch.TotalItemsListener;
+import com.example.batch.mapper.LambdaRowMapper;
+import com.example.batch.mapper.ProductLineMapper;
+import com.example.batch.partition.ColumnRangePartitioner;
+import com.example.batch.partition.FileRangePartitioner;
+import com.example.batch.partition.ResourceGroupPartitioner;
+import com.example.batch.processor.ChunkItemProcessor;
+import com.example.batch.processor.ChunkItemProcessorAdapter;
+import com.example.batch.processor.CustomerChunkProcessor;
 import com.example.batch.processor.CustomerItemProcessor;
+import com.example.batch.processor.ProductChunkProcessor;
+import com.example.batch.processor.ProcessedCustomerFilter;
 import com.example.batch.processor.ProductItemProcessor;
 import com.example.batch.reader.*;
+import com.example.batch.trace.ItemTracer;
 import com.example.batch.writer.CustomerItemWriter;
+import com.example.batch.writer.MultiRowInsertCustomerItemWriter;
 import com.example.batch.writer.ProductItemWriter;
+import com.example.batch.writer.StagingProductItemWriter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import jakarta.persistence.EntityManagerFactory;
 import org.hibernate.jpa.HibernateHints;
+import org.springframework.batch.core.ChunkListener;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.builder.TaskletStepBuilder;
+import org.springframework.batch.core.step.item.ChunkOrientedTasklet;
+import org.springframework.batch.core.step.item.SimpleChunkProvider;
+import org.springframework.batch.integration.async.AsyncItemProcessor;
+import org.springframework.batch.integration.async.AsyncItemWriter;
 import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStream;
 import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.JpaCursorItemReader;
+import org.springframework.batch.item.database.JpaPagingItemReader;
 import org.springframework.batch.item.database.Order;
 import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
 import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
@@ -25,25 +59,34 @@ import org.springframework.batch.item.database.builder.JpaCursorItemReaderBuilde
 import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
 import org.springframework.batch.item.database.support.H2PagingQueryProvider;
 import org.springframework.batch.item.file.FlatFileItemReader;
+import org.springframework.batch.item.file.MultiResourceItemReader;
 import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
 import org.springframework.batch.item.file.builder.MultiResourceItemReaderBuilder;
 import org.springframework.batch.item.json.JacksonJsonObjectReader;
+import org.springframework.batch.item.json.JsonItemReader;
 import org.springframework.batch.item.json.builder.JsonItemReaderBuilder;
 import org.springframework.batch.item.support.ListItemReader;
+import org.springframework.batch.item.xml.StaxEventItemReader;
 import org.springframework.batch.item.xml.builder.StaxEventItemReaderBuilder;
+import org.springframework.batch.repeat.support.RepeatTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
-import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import javax.sql.DataSource;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Future;
 
 @Configuration
 @RequiredArgsConstructor
@@ -55,20 +98,60 @@ public class BatchConfig {
   private final EntityManagerFactory entityManagerFactory;
   private final CustomerItemProcessor customerItemProcessor;
   private final ProductItemProcessor productItemProcessor;
+  private final CustomerChunkProcessor customerChunkProcessor;
+  private final ProductChunkProcessor productChunkProcessor;
+  private final ItemTracer itemTracer;
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * CustomerItemWriter 가 JDBC 배치 한 번에 보낼 row 수 (0 이하이면 item 단위 update)
+   */
+  @Value("${batch.writer.customer.batch-size:1000}")
+  private int customerWriterBatchSize;
+
+  /**
+   * MultiRowInsertCustomerItemWriter 가 INSERT 문 하나에 담을 row 수
+   */
+  @Value("${batch.writer.customer.rows-per-statement:100}")
+  private int customerWriterRowsPerStatement;
+
+  /**
+   * AdaptiveCompletionPolicy 의 chunk 크기 범위, 목표 처리 시간, chunk 크기를 늘리지 않는 heap 사용률
+   */
+  @Value("${batch.chunk.min-size:10}")
+  private int chunkMinSize;
+
+  @Value("${batch.chunk.max-size:5000}")
+  private int chunkMaxSize;
+
+  @Value("${batch.chunk.target-duration:500ms}")
+  private Duration chunkTargetDuration;
+
+  @Value("${batch.chunk.max-heap-usage:0.8}")
+  private double chunkMaxHeapUsage;
 
   // ========== ItemReader 샘플들 ==========
+  // 리더는 모두 @StepScope: Step 실행마다 새 인스턴스를 만들어 같은 Job 을 동시에/반복해서 실행해도 상태(커서, 읽은 위치)를 공유하지 않음
+  // Step 스코프 프록시가 ItemStream 으로 인식되도록 반환 타입은 구현 클래스로 선언함
+  // JDBC 리더는 Job 파라미터 minId ~ maxId 범위만 읽음 (여러 실행이 id 구간을 나누어 처리할 때 사용)
 
   /**
    * 1. JdbcCursorItemReader - JDBC 커서 기반 읽기
    * 대용량 데이터 처리에 적합, 메모리 효율적
    */
   @Bean
-  public ItemReader<Customer> jdbcCursorItemReader() {
+  @StepScope
+  public JdbcCursorItemReader<Customer> jdbcCursorItemReader(
+      @Value("#{jobParameters['minId'] ?: 0L}") Long minId,
+      @Value("#{jobParameters['maxId'] ?: T(Long).MAX_VALUE}") Long maxId,
+      @Value("#{jobParameters['fetchSize'] ?: ${batch.reader.fetch-size:1000}}") Integer fetchSize) {
     return new JdbcCursorItemReaderBuilder<Customer>()
         .name("jdbcCursorItemReader")
         .dataSource(dataSource)
-        .sql("SELECT id, first_name, last_name, email, age, created_at FROM customer ORDER BY id")
-        .rowMapper(new BeanPropertyRowMapper<>(Customer.class))
+        .sql("SELECT id, first_name, last_name, email, age, created_at FROM customer WHERE id BETWEEN ? AND ? ORDER BY id")
+        .queryArguments(minId, maxId)
+        .fetchSize(fetchSize)
+        .rowMapper(LambdaRowMapper.of(Customer.class))
         .build();
   }
 
@@ -77,21 +160,28 @@ public class BatchConfig {
    * 페이지 단위로 데이터를 읽어 메모리 사용량 제어
    */
   @Bean
-  public ItemReader<Customer> jdbcPagingItemReader() {
+  @StepScope
+  public JdbcPagingItemReader<Customer> jdbcPagingItemReader(
+      @Value("#{jobParameters['minId'] ?: 0L}") Long minId,
+      @Value("#{jobParameters['maxId'] ?: T(Long).MAX_VALUE}") Long maxId,
+      @Value("#{jobParameters['fetchSize'] ?: ${batch.reader.fetch-size:1000}}") Integer fetchSize) {
     Map<String, Order> sortKeys = new HashMap<>();
     sortKeys.put("id", Order.ASCENDING);
 
     H2PagingQueryProvider queryProvider = new H2PagingQueryProvider();
     queryProvider.setSelectClause("id, first_name, last_name, email, age, created_at");
     queryProvider.setFromClause("FROM customer");
+    queryProvider.setWhereClause("WHERE id BETWEEN :minId AND :maxId");
     queryProvider.setSortKeys(sortKeys);
 
     return new JdbcPagingItemReaderBuilder<Customer>()
         .name("jdbcPagingItemReader")
         .dataSource(dataSource)
         .queryProvider(queryProvider)
-        .pageSize(3) // 페이지 크기 설정
-        .rowMapper(new BeanPropertyRowMapper<>(Customer.class))
+        .parameterValues(Map.of("minId", minId, "maxId", maxId))
+        .pageSize(fetchSize) // 페이지 크기 설정
+        .fetchSize(fetchSize)
+        .rowMapper(LambdaRowMapper.of(Customer.class))
         .build();
   }
 
@@ -100,13 +190,28 @@ public class BatchConfig {
    * 파일 기반 데이터 처리에 사용
    */
   @Bean
-  public ItemReader<Product> flatFileItemReader() {
+  @StepScope
+  public FlatFileItemReader<Product> flatFileItemReader() {
     return new FlatFileItemReaderBuilder<Product>()
         .name("flatFileItemReader")
         .resource(new FileSystemResource("data/products-100k.csv"))
-        .delimited()
-        .names("name", "price", "category", "stock")
-        .targetType(Product.class)
+        .lineMapper(new ProductLineMapper()) // FieldSet/리플렉션 없이 라인을 바로 Product 로 변환
+        .linesToSkip(1) // 헤더 라인 스킵
+        .strict(false) // 파일이 없어도 오류 발생하지 않음
+        .build();
+  }
+
+  /**
+   * 3-1. FlatFileItemReader - price 를 고정 소수점 long(priceMinor)으로 읽는 버전
+   * 읽기 -> 할인(ProductItemProcessor) -> 쓰기까지 item 마다 BigDecimal 을 만들지 않음
+   */
+  @Bean
+  @StepScope
+  public FlatFileItemReader<Product> fixedPointFlatFileItemReader() {
+    return new FlatFileItemReaderBuilder<Product>()
+        .name("fixedPointFlatFileItemReader")
+        .resource(new FileSystemResource("data/products-100k.csv"))
+        .lineMapper(new ProductLineMapper(true))
         .linesToSkip(1) // 헤더 라인 스킵
         .strict(false) // 파일이 없어도 오류 발생하지 않음
         .build();
@@ -117,7 +222,8 @@ public class BatchConfig {
    * JSON 형식의 데이터 파일 처리
    */
   @Bean
-  public ItemReader<Customer> jsonItemReader() {
+  @StepScope
+  public JsonItemReader<Customer> jsonItemReader() {
     JacksonJsonObjectReader<Customer> jsonObjectReader = new JacksonJsonObjectReader<>(Customer.class);
     jsonObjectReader.setMapper(new com.fasterxml.jackson.databind.ObjectMapper());
 
@@ -128,12 +234,26 @@ public class BatchConfig {
         .build();
   }
 
+  /**
+   * 4-1. StreamingCustomerJsonItemReader - Jackson 토큰 스트림 기반 JSON 읽기
+   * 객체마다 databind 를 거치지 않고 JsonParser 토큰을 따라가며 Customer 필드를 바로 채움
+   */
+  @Bean
+  @StepScope
+  public StreamingCustomerJsonItemReader streamingJsonItemReader() {
+    StreamingCustomerJsonItemReader reader = new StreamingCustomerJsonItemReader();
+    reader.setName("streamingJsonItemReader");
+    reader.setResource(new FileSystemResource("data/customers-100k.json"));
+    return reader;
+  }
+
   /**
    * 5. ListItemReader - 메모리 내 리스트 읽기
    * 간단한 테스트나 작은 데이터셋에 사용
    */
   @Bean
-  public ItemReader<Product> listItemReader() {
+  @StepScope
+  public ListItemReader<Product> listItemReader() {
     return new ListItemReader<>(Arrays.asList(
         new Product(null, "태블릿", new java.math.BigDecimal("500000"), "전자제품", 20),
         new Product(null, "스마트폰", new java.math.BigDecimal("800000"), "전자제품", 100),
@@ -146,7 +266,8 @@ public class BatchConfig {
    * JPA Repository를 사용한 읽기 (별도 클래스로 구현)
    */
   @Bean
-  public ItemReader<Product> repositoryItemReader() {
+  @StepScope
+  public RepositoryItemReaderImpl<Product> repositoryItemReader() {
     return new RepositoryItemReaderImpl<>(dataSource);
   }
 
@@ -154,7 +275,8 @@ public class BatchConfig {
    * 7. MultiResourceItemReader - 다중 CSV 파일 순차 읽기
    */
   @Bean
-  public ItemReader<Product> multiResourceItemReader() {
+  @StepScope
+  public MultiResourceItemReader<Product> multiResourceItemReader() {
     Resource[] resources = new Resource[]{
         new FileSystemResource("data/products-part1-100k.csv"),
         new FileSystemResource("data/products-part2-100k.csv")
@@ -163,19 +285,12 @@ public class BatchConfig {
     return new MultiResourceItemReaderBuilder<Product>()
         .name("multiResourceItemReader")
         .resources(resources)
-        .delegate(multiResourceProductReader())
-        .build();
-  }
-
-  @Bean
-  public FlatFileItemReader<Product> multiResourceProductReader() {
-    return new FlatFileItemReaderBuilder<Product>()
-        .name("multiResourceProductReader")
-        .delimited()
-        .names("name", "price", "category", "stock")
-        .targetType(Product.class)
-        .linesToSkip(1)
-        .strict(false)
+        .delegate(new FlatFileItemReaderBuilder<Product>()
+            .name("multiResourceProductReader")
+            .lineMapper(new ProductLineMapper())
+            .linesToSkip(1)
+            .strict(false)
+            .build())
         .build();
   }
 
@@ -183,7 +298,8 @@ public class BatchConfig {
    * 8. JpaPagingItemReader - JPA 페이징 기반 읽기
    */
   @Bean
-  public ItemReader<Customer> jpaPagingItemReader() {
+  @StepScope
+  public JpaPagingItemReader<Customer> jpaPagingItemReader() {
     return new JpaPagingItemReaderBuilder<Customer>()
         .name("jpaPagingItemReader")
         .entityManagerFactory(entityManagerFactory)
@@ -192,11 +308,29 @@ public class BatchConfig {
         .build();
   }
 
+  /**
+   * 8-1. KeysetJpaPagingItemReader - JPA 키셋(seek) 페이징 읽기
+   * OFFSET 대신 마지막으로 읽은 id 이후를 조회하므로 뒤쪽 페이지도 지연 시간이 일정함
+   */
+  @Bean
+  @StepScope
+  public KeysetJpaPagingItemReader<Customer> keysetJpaPagingItemReader() {
+    KeysetJpaPagingItemReader<Customer> reader = new KeysetJpaPagingItemReader<>();
+    reader.setName("keysetJpaPagingItemReader");
+    reader.setEntityManagerFactory(entityManagerFactory);
+    reader.setQueryString("SELECT c FROM Customer c WHERE c.id > :lastId ORDER BY c.id");
+    reader.setKeyParameter("lastId");
+    reader.setFirstKey(0L);
+    reader.setPageSize(100);
+    return reader;
+  }
+
   /**
    * 9. JpaCursorItemReader - JPA 커서 기반 읽기
    */
   @Bean
-  public ItemReader<Customer> jpaCursorItemReader() {
+  @StepScope
+  public JpaCursorItemReader<Customer> jpaCursorItemReader() {
     return new JpaCursorItemReaderBuilder<Customer>()
         .name("jpaCursorItemReader")
         .entityManagerFactory(entityManagerFactory)
@@ -209,7 +343,8 @@ public class BatchConfig {
    * JPA 쿼리 힌트(fetch size, read-only 등)를 세팅해서 성능 튜닝에 활용하는 리더
    */
   @Bean
-  public ItemReader<Customer> hintSettableJpaCursorItemReader() {
+  @StepScope
+  public HintSettableJpaCursorItemReader<Customer> hintSettableJpaCursorItemReader() {
     HintSettableJpaCursorItemReader<Customer> reader = new HintSettableJpaCursorItemReader<>();
     reader.setEntityManagerFactory(entityManagerFactory);
     reader.setQueryString("SELECT c FROM Customer c ORDER BY c.id");
@@ -217,19 +352,53 @@ public class BatchConfig {
     return reader;
   }
 
+  /**
+   * 10-1. HintSettableJpaCursorItemReader (StatelessSession 모드)
+   * Hibernate StatelessSession + forward-only ScrollableResults 로 읽어 1차 캐시/더티 체킹이 없음
+   * 커밋마다 마지막 id 를 저장하고 재시작 시 :lastId 이후부터 조회
+   */
+  @Bean
+  @StepScope
+  public HintSettableJpaCursorItemReader<Customer> statelessJpaCursorItemReader() {
+    HintSettableJpaCursorItemReader<Customer> reader = new HintSettableJpaCursorItemReader<>();
+    reader.setName("statelessJpaCursorItemReader");
+    reader.setEntityManagerFactory(entityManagerFactory);
+    reader.setUseStatelessSession(true);
+    reader.setQueryString("SELECT c FROM Customer c WHERE c.id > :lastId ORDER BY c.id");
+    reader.setParameterValues(Map.of("lastId", 0L));
+    reader.setRestartKeyParameter("lastId");
+    reader.setHintValues(Map.of(HibernateHints.HINT_FETCH_SIZE, 500));
+    return reader;
+  }
+
   /**
    * 11. StaxEventItemReader - XML 스트리밍 읽기
    */
   @Bean
-  public ItemReader<Customer> staxEventItemReader(Jaxb2Marshaller customerMarshaller) {
+  @StepScope
+  public StaxEventItemReader<Customer> staxEventItemReader() {
     return new StaxEventItemReaderBuilder<Customer>()
         .name("staxEventItemReader")
         .resource(new FileSystemResource("data/customers-100k.xml"))
         .addFragmentRootElements("customer")
-        .unmarshaller(customerMarshaller)
+        .unmarshaller(customerMarshaller())
         .build();
   }
 
+  /**
+   * 11-1. StaxCursorCustomerItemReader - StAX 커서 기반 XML 스트리밍 읽기
+   * 조각마다 JAXB unmarshal 하지 않고 XMLStreamReader 로 요소 텍스트를 Customer 에 바로 매핑
+   */
+  @Bean
+  @StepScope
+  public StaxCursorCustomerItemReader staxCursorItemReader() {
+    StaxCursorCustomerItemReader reader = new StaxCursorCustomerItemReader();
+    reader.setName("staxCursorItemReader");
+    reader.setResource(new FileSystemResource("data/customers-100k.xml"));
+    reader.setFragmentRootElementName("customer");
+    return reader;
+  }
+
   @Bean
   public Jaxb2Marshaller customerMarshaller() {
     Jaxb2Marshaller marshaller = new Jaxb2Marshaller();
@@ -241,8 +410,23 @@ public class BatchConfig {
    * 12. MappingSqlQuery 스타일 - 커스텀 RowMapper 기반 JDBC 읽기
    */
   @Bean
-  public ItemReader<Customer> mappingSqlQueryItemReader() {
-    RowMapper<Customer> rowMapper = (rs, rowNum) -> {
+  @StepScope
+  public JdbcCursorItemReader<Customer> mappingSqlQueryItemReader(
+      @Value("#{jobParameters['minId'] ?: 0L}") Long minId,
+      @Value("#{jobParameters['maxId'] ?: T(Long).MAX_VALUE}") Long maxId,
+      @Value("#{jobParameters['fetchSize'] ?: ${batch.reader.fetch-size:1000}}") Integer fetchSize) {
+    return new JdbcCursorItemReaderBuilder<Customer>()
+        .name("mappingSqlQueryItemReader")
+        .dataSource(dataSource)
+        .sql("SELECT id, first_name, last_name, email, age, created_at FROM customer WHERE id BETWEEN ? AND ? ORDER BY id")
+        .queryArguments(minId, maxId)
+        .fetchSize(fetchSize)
+        .rowMapper(customerRowMapper())
+        .build();
+  }
+
+  private static RowMapper<Customer> customerRowMapper() {
+    return (rs, rowNum) -> {
       Customer c = new Customer();
       c.setId(rs.getLong("id"));
       c.setFirstName(rs.getString("first_name"));
@@ -252,115 +436,241 @@ public class BatchConfig {
       c.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
       return c;
     };
+  }
 
-    return new JdbcCursorItemReaderBuilder<Customer>()
-        .name("mappingSqlQueryItemReader")
-        .dataSource(dataSource)
-        .sql("SELECT id, first_name, last_name, email, age, created_at FROM customer ORDER BY id")
-        .rowMapper(rowMapper)
-        .build();
+  /**
+   * 14. PrefetchingItemStreamReader - 백그라운드 스레드 read-ahead 데코레이터
+   * 어떤 리더든 감쌀 수 있으며, 여기서는 jdbcCursorItemReader 를 감싸 청크 커밋 중에도 다음 item 을 미리 읽음
+   * 미리 읽을 item 수는 Job 파라미터 prefetchDepth (기본 1024)
+   */
+  @Bean
+  @StepScope
+  public PrefetchingItemStreamReader<Customer> prefetchingJdbcCursorItemReader(
+      @Value("#{jobParameters['prefetchDepth'] ?: 1024}") Integer prefetchDepth) {
+    PrefetchingItemStreamReader<Customer> reader =
+        new PrefetchingItemStreamReader<>(jdbcCursorItemReader(null, null, null), prefetchDepth);
+    reader.setName("prefetchingJdbcCursorItemReader");
+    return reader;
   }
 
   // ========== ItemProcessor ==========
   // CustomerItemProcessor와 ProductItemProcessor는 @Component로 이미 빈으로 등록되어 있음
 
   // ========== ItemWriter ==========
+  // writer 는 chunk 마다 받은 item 만 다루고 인스턴스 상태가 없으므로(스레드 안전) 여러 Step 실행이 공유함
   @Bean
   public ItemWriter<CustomerProcessed> customerItemWriter() {
-    return new CustomerItemWriter(dataSource);
+    return new CustomerItemWriter(dataSource, customerWriterBatchSize, itemTracer);
+  }
+
+  /**
+   * chunk 를 rowsPerStatement 개씩 multi-row INSERT 문으로 기록
+   */
+  @Bean
+  public ItemWriter<CustomerProcessed> multiRowInsertCustomerItemWriter() {
+    return new MultiRowInsertCustomerItemWriter(dataSource, customerWriterRowsPerStatement, itemTracer);
   }
 
   @Bean
   public ItemWriter<Product> productItemWriter() {
-    return new ProductItemWriter(dataSource);
+    return new ProductItemWriter(dataSource, itemTracer);
+  }
+
+  /**
+   * chunk 를 임시 테이블에 적재 후 MERGE 한 번으로 가격을 갱신 (name 기준)
+   * 파일/리스트처럼 id 가 없는 입력에 사용
+   */
+  @Bean
+  public ItemWriter<Product> stagingProductItemWriter() {
+    return new StagingProductItemWriter(dataSource, StagingProductItemWriter.Key.NAME);
+  }
+
+  /**
+   * chunk 를 임시 테이블에 적재 후 MERGE 한 번으로 가격을 갱신 (id 기준)
+   * DB 에서 읽어 id 를 가진 입력에 사용
+   */
+  @Bean
+  public ItemWriter<Product> stagingProductItemWriterById() {
+    return new StagingProductItemWriter(dataSource, StagingProductItemWriter.Key.ID);
+  }
+
+  // ========== Chunk 크기 ==========
+
+  /**
+   * 측정한 chunk 처리 시간으로 chunk 크기를 조정하는 CompletionPolicy (Step 실행마다 새 인스턴스)
+   * 첫 chunk 크기는 jobParameters 의 chunkSize, 없으면 batch.chunk.initial-size
+   */
+  @Bean
+  @StepScope
+  public AdaptiveCompletionPolicy adaptiveCompletionPolicy(
+      @Value("#{jobParameters['chunkSize'] ?: ${batch.chunk.initial-size:100}}") Integer initialSize) {
+    return new AdaptiveCompletionPolicy(initialSize, chunkMinSize, chunkMaxSize, chunkTargetDuration, chunkMaxHeapUsage,
+        meterRegistry);
+  }
+
+  /**
+   * AdaptiveCompletionPolicy 로 chunk 크기를 정하는 chunk 지향 Step 빌더
+   * 정책이 chunk 처리 시간을 측정할 수 있도록 listener 로도 등록함
+   */
+  private <I, O> SimpleStepBuilder<I, O> adaptiveChunk(String name) {
+    AdaptiveCompletionPolicy completionPolicy = adaptiveCompletionPolicy(null);
+    return new StepBuilder(name, jobRepository)
+        .<I, O>chunk(completionPolicy, transactionManager)
+        .listener((StepExecutionListener) completionPolicy)
+        .listener((ChunkListener) completionPolicy);
+  }
+
+  // ========== 진행률 (ETA) ==========
+
+  /**
+   * customer id 범위(minId ~ maxId 또는 파티션 범위)를 읽는 Step 의 전체 item 수를 Step 시작 시 기록
+   */
+  @Bean
+  public TotalItemsListener customerTotalItemsListener() {
+    return TotalItemsListener.customerIdRange(dataSource);
+  }
+
+  /**
+   * products-100k.csv 를 읽는 Step 의 전체 item 수(헤더 제외 라인 수)를 Step 시작 시 기록
+   */
+  @Bean
+  public TotalItemsListener productFileTotalItemsListener() {
+    return TotalItemsListener.lineCount(new FileSystemResource("data/products-100k.csv"), 1);
   }
 
   // ========== Steps ==========
 
   @Bean
   public Step jdbcCursorStep() {
-    return new StepBuilder("jdbcCursorStep", jobRepository)
-        .<Customer, CustomerProcessed>chunk(3, transactionManager)
-        .reader(jdbcCursorItemReader())
+    return this.<Customer, CustomerProcessed>adaptiveChunk("jdbcCursorStep")
+        .reader(jdbcCursorItemReader(null, null, null))
+        .processor(customerItemProcessor)
+        .writer(customerItemWriter())
+        .listener(customerTotalItemsListener())
+        .build();
+  }
+
+  @Bean
+  public Step prefetchingJdbcCursorStep() {
+    return this.<Customer, CustomerProcessed>adaptiveChunk("prefetchingJdbcCursorStep")
+        .reader(prefetchingJdbcCursorItemReader(null))
         .processor(customerItemProcessor)
         .writer(customerItemWriter())
+        .listener(customerTotalItemsListener())
+        .build();
+  }
+
+  /**
+   * multi-row INSERT writer 를 사용하는 jdbcCursorStep
+   * 문장 하나에 여러 row 를 담아야 효과가 있으므로 chunk 크기를 크게 잡음
+   */
+  @Bean
+  public Step multiRowInsertJdbcCursorStep() {
+    return new StepBuilder("multiRowInsertJdbcCursorStep", jobRepository)
+        .<Customer, CustomerProcessed>chunk(1000, transactionManager)
+        .reader(jdbcCursorItemReader(null, null, null))
+        .processor(customerItemProcessor)
+        .writer(multiRowInsertCustomerItemWriter())
+        .listener(customerTotalItemsListener())
         .build();
   }
 
   @Bean
   public Step jdbcPagingStep() {
-    return new StepBuilder("jdbcPagingStep", jobRepository)
-        .<Customer, CustomerProcessed>chunk(2, transactionManager)
-        .reader(jdbcPagingItemReader())
+    return this.<Customer, CustomerProcessed>adaptiveChunk("jdbcPagingStep")
+        .reader(jdbcPagingItemReader(null, null, null))
         .processor(customerItemProcessor)
         .writer(customerItemWriter())
+        .listener(customerTotalItemsListener())
         .build();
   }
 
   @Bean
   public Step flatFileStep() {
-    return new StepBuilder("flatFileStep", jobRepository)
-        .<Product, Product>chunk(2, transactionManager)
+    return this.<Product, Product>adaptiveChunk("flatFileStep")
         .reader(flatFileItemReader())
         .processor(productItemProcessor)
-        .writer(productItemWriter())
+        .writer(stagingProductItemWriter())
+        .listener(productFileTotalItemsListener())
+        .build();
+  }
+
+  @Bean
+  public Step fixedPointFlatFileStep() {
+    return this.<Product, Product>adaptiveChunk("fixedPointFlatFileStep")
+        .reader(fixedPointFlatFileItemReader())
+        .processor(productItemProcessor)
+        .writer(stagingProductItemWriter())
+        .listener(productFileTotalItemsListener())
         .build();
   }
 
   @Bean
   public Step jsonStep() {
-    return new StepBuilder("jsonStep", jobRepository)
-        .<Customer, CustomerProcessed>chunk(2, transactionManager)
+    return this.<Customer, CustomerProcessed>adaptiveChunk("jsonStep")
         .reader(jsonItemReader())
         .processor(customerItemProcessor)
         .writer(customerItemWriter())
         .build();
   }
 
+  @Bean
+  public Step streamingJsonStep() {
+    return this.<Customer, CustomerProcessed>adaptiveChunk("streamingJsonStep")
+        .reader(streamingJsonItemReader())
+        .processor(customerItemProcessor)
+        .writer(customerItemWriter())
+        .build();
+  }
+
   @Bean
   public Step listItemStep() {
-    return new StepBuilder("listItemStep", jobRepository)
-        .<Product, Product>chunk(2, transactionManager)
+    return this.<Product, Product>adaptiveChunk("listItemStep")
         .reader(listItemReader())
         .processor(productItemProcessor)
-        .writer(productItemWriter())
+        .writer(stagingProductItemWriter())
         .build();
   }
 
   @Bean
   public Step repositoryItemStep() {
-    return new StepBuilder("repositoryItemStep", jobRepository)
-        .<Product, Product>chunk(2, transactionManager)
+    return this.<Product, Product>adaptiveChunk("repositoryItemStep")
         .reader(repositoryItemReader())
         .processor(productItemProcessor)
-        .writer(productItemWriter())
+        .writer(stagingProductItemWriterById())
         .build();
   }
 
   @Bean
   public Step multiResourceStep() {
-    return new StepBuilder("multiResourceStep", jobRepository)
-        .<Product, Product>chunk(2, transactionManager)
+    return this.<Product, Product>adaptiveChunk("multiResourceStep")
         .reader(multiResourceItemReader())
         .processor(productItemProcessor)
-        .writer(productItemWriter())
+        .writer(stagingProductItemWriter())
         .build();
   }
 
   @Bean
   public Step jpaPagingStep() {
-    return new StepBuilder("jpaPagingStep", jobRepository)
-        .<Customer, CustomerProcessed>chunk(2, transactionManager)
+    return this.<Customer, CustomerProcessed>adaptiveChunk("jpaPagingStep")
         .reader(jpaPagingItemReader())
         .processor(customerItemProcessor)
         .writer(customerItemWriter())
         .build();
   }
 
+  @Bean
+  public Step keysetJpaPagingStep() {
+    return this.<Customer, CustomerProcessed>adaptiveChunk("keysetJpaPagingStep")
+        .reader(keysetJpaPagingItemReader())
+        .processor(customerItemProcessor)
+        .writer(customerItemWriter())
+        .build();
+  }
+
   @Bean
   public Step jpaCursorStep() {
-    return new StepBuilder("jpaCursorStep", jobRepository)
-        .<Customer, CustomerProcessed>chunk(2, transactionManager)
+    return this.<Customer, CustomerProcessed>adaptiveChunk("jpaCursorStep")
         .reader(jpaCursorItemReader())
         .processor(customerItemProcessor)
         .writer(customerItemWriter())
@@ -369,19 +679,35 @@ public class BatchConfig {
 
   @Bean
   public Step hintSettableJpaCursorStep() {
-    return new StepBuilder("hintSettableJpaCursorStep", jobRepository)
-        .<Customer, CustomerProcessed>chunk(2, transactionManager)
+    return this.<Customer, CustomerProcessed>adaptiveChunk("hintSettableJpaCursorStep")
         .reader(hintSettableJpaCursorItemReader())
         .processor(customerItemProcessor)
         .writer(customerItemWriter())
         .build();
   }
 
+  @Bean
+  public Step statelessJpaCursorStep() {
+    return this.<Customer, CustomerProcessed>adaptiveChunk("statelessJpaCursorStep")
+        .reader(statelessJpaCursorItemReader())
+        .processor(customerItemProcessor)
+        .writer(customerItemWriter())
+        .build();
+  }
+
   @Bean
   public Step staxEventStep() {
-    return new StepBuilder("staxEventStep", jobRepository)
-        .<Customer, CustomerProcessed>chunk(2, transactionManager)
-        .reader(staxEventItemReader(customerMarshaller()))
+    return this.<Customer, CustomerProcessed>adaptiveChunk("staxEventStep")
+        .reader(staxEventItemReader())
+        .processor(customerItemProcessor)
+        .writer(customerItemWriter())
+        .build();
+  }
+
+  @Bean
+  public Step staxCursorStep() {
+    return this.<Customer, CustomerProcessed>adaptiveChunk("staxCursorStep")
+        .reader(staxCursorItemReader())
         .processor(customerItemProcessor)
         .writer(customerItemWriter())
         .build();
@@ -389,14 +715,545 @@ public class BatchConfig {
 
   @Bean
   public Step mappingSqlQueryStep() {
-    return new StepBuilder("mappingSqlQueryStep", jobRepository)
-        .<Customer, CustomerProcessed>chunk(2, transactionManager)
-        .reader(mappingSqlQueryItemReader())
+    return this.<Customer, CustomerProcessed>adaptiveChunk("mappingSqlQueryStep")
+        .reader(mappingSqlQueryItemReader(null, null, null))
+        .processor(customerItemProcessor)
+        .writer(customerItemWriter())
+        .build();
+  }
+
+  // ========== Partitioned Steps ==========
+  // customer.id 를 gridSize 개의 연속 구간으로 나누어 워커 Step 을 병렬 실행
+  // gridSize, threadCount 는 Job 파라미터로 전달 (기본값 4)
+  // 파티션 리더의 fetchSize(페이징 리더는 페이지 크기도)는 Job 파라미터 fetchSize (기본 batch.reader.fetch-size)
+
+  @Bean
+  public ColumnRangePartitioner customerIdRangePartitioner() {
+    return new ColumnRangePartitioner(dataSource, "customer", "id");
+  }
+
+  /**
+   * 파티션 범위(minValue ~ maxValue)만 읽는 JdbcCursorItemReader
+   * 파티션 컨텍스트가 없으면 전체 범위를 읽음
+   */
+  @Bean
+  @StepScope
+  public JdbcCursorItemReader<Customer> partitionedJdbcCursorItemReader(
+      @Value("#{stepExecutionContext['minValue'] ?: 0L}") Long minId,
+      @Value("#{stepExecutionContext['maxValue'] ?: T(Long).MAX_VALUE}") Long maxId,
+      @Value("#{jobParameters['fetchSize'] ?: ${batch.reader.fetch-size:1000}}") Integer fetchSize) {
+    return new JdbcCursorItemReaderBuilder<Customer>()
+        .name("partitionedJdbcCursorItemReader")
+        .dataSource(dataSource)
+        .sql("SELECT id, first_name, last_name, email, age, created_at FROM customer WHERE id BETWEEN ? AND ? ORDER BY id")
+        .queryArguments(minId, maxId)
+        .fetchSize(fetchSize)
+        .rowMapper(LambdaRowMapper.of(Customer.class))
+        .build();
+  }
+
+  /**
+   * 파티션 범위(minValue ~ maxValue)만 읽는 JdbcPagingItemReader
+   */
+  @Bean
+  @StepScope
+  public JdbcPagingItemReader<Customer> partitionedJdbcPagingItemReader(
+      @Value("#{stepExecutionContext['minValue'] ?: 0L}") Long minId,
+      @Value("#{stepExecutionContext['maxValue'] ?: T(Long).MAX_VALUE}") Long maxId,
+      @Value("#{jobParameters['fetchSize'] ?: ${batch.reader.fetch-size:1000}}") Integer fetchSize) {
+    Map<String, Order> sortKeys = new HashMap<>();
+    sortKeys.put("id", Order.ASCENDING);
+
+    H2PagingQueryProvider queryProvider = new H2PagingQueryProvider();
+    queryProvider.setSelectClause("id, first_name, last_name, email, age, created_at");
+    queryProvider.setFromClause("FROM customer");
+    queryProvider.setWhereClause("WHERE id BETWEEN :minId AND :maxId");
+    queryProvider.setSortKeys(sortKeys);
+
+    return new JdbcPagingItemReaderBuilder<Customer>()
+        .name("partitionedJdbcPagingItemReader")
+        .dataSource(dataSource)
+        .queryProvider(queryProvider)
+        .parameterValues(Map.of("minId", minId, "maxId", maxId))
+        .pageSize(fetchSize)
+        .fetchSize(fetchSize)
+        .rowMapper(LambdaRowMapper.of(Customer.class))
+        .build();
+  }
+
+  /**
+   * 파티션 범위(minValue ~ maxValue)만 읽는 MappingSqlQuery 스타일 리더
+   */
+  @Bean
+  @StepScope
+  public JdbcCursorItemReader<Customer> partitionedMappingSqlQueryItemReader(
+      @Value("#{stepExecutionContext['minValue'] ?: 0L}") Long minId,
+      @Value("#{stepExecutionContext['maxValue'] ?: T(Long).MAX_VALUE}") Long maxId,
+      @Value("#{jobParameters['fetchSize'] ?: ${batch.reader.fetch-size:1000}}") Integer fetchSize) {
+    return new JdbcCursorItemReaderBuilder<Customer>()
+        .name("partitionedMappingSqlQueryItemReader")
+        .dataSource(dataSource)
+        .sql("SELECT id, first_name, last_name, email, age, created_at FROM customer WHERE id BETWEEN ? AND ? ORDER BY id")
+        .queryArguments(minId, maxId)
+        .fetchSize(fetchSize)
+        .rowMapper(customerRowMapper())
+        .build();
+  }
+
+  @Bean
+  public Step partitionedJdbcCursorWorkerStep() {
+    return this.<Customer, CustomerProcessed>adaptiveChunk("partitionedJdbcCursorWorkerStep")
+        .reader(partitionedJdbcCursorItemReader(null, null, null))
+        .processor(customerItemProcessor)
+        .writer(customerItemWriter())
+        .listener(customerTotalItemsListener())
+        .build();
+  }
+
+  @Bean
+  public Step partitionedJdbcPagingWorkerStep() {
+    return this.<Customer, CustomerProcessed>adaptiveChunk("partitionedJdbcPagingWorkerStep")
+        .reader(partitionedJdbcPagingItemReader(null, null, null))
+        .processor(customerItemProcessor)
+        .writer(customerItemWriter())
+        .listener(customerTotalItemsListener())
+        .build();
+  }
+
+  @Bean
+  public Step partitionedMappingSqlQueryWorkerStep() {
+    return this.<Customer, CustomerProcessed>adaptiveChunk("partitionedMappingSqlQueryWorkerStep")
+        .reader(partitionedMappingSqlQueryItemReader(null, null, null))
+        .processor(customerItemProcessor)
+        .writer(customerItemWriter())
+        .listener(customerTotalItemsListener())
+        .build();
+  }
+
+  @Bean
+  @StepScope
+  public TaskExecutorPartitionHandler partitionedJdbcCursorPartitionHandler(
+      @Value("#{jobParameters['gridSize'] ?: 4}") Integer gridSize,
+      @Value("#{jobParameters['threadCount'] ?: 4}") Integer threadCount) {
+    return partitionHandler(partitionedJdbcCursorWorkerStep(), gridSize, threadCount);
+  }
+
+  @Bean
+  @StepScope
+  public TaskExecutorPartitionHandler partitionedJdbcPagingPartitionHandler(
+      @Value("#{jobParameters['gridSize'] ?: 4}") Integer gridSize,
+      @Value("#{jobParameters['threadCount'] ?: 4}") Integer threadCount) {
+    return partitionHandler(partitionedJdbcPagingWorkerStep(), gridSize, threadCount);
+  }
+
+  @Bean
+  @StepScope
+  public TaskExecutorPartitionHandler partitionedMappingSqlQueryPartitionHandler(
+      @Value("#{jobParameters['gridSize'] ?: 4}") Integer gridSize,
+      @Value("#{jobParameters['threadCount'] ?: 4}") Integer threadCount) {
+    return partitionHandler(partitionedMappingSqlQueryWorkerStep(), gridSize, threadCount);
+  }
+
+  /**
+   * 워커 Step 을 최대 threadCount 개 스레드에서 동시에 실행하는 PartitionHandler 생성
+   * Step 스코프 빈에서 호출되므로 Job 실행마다 gridSize / threadCount 를 새로 적용함
+   */
+  private TaskExecutorPartitionHandler partitionHandler(Step workerStep, int gridSize, int threadCount) {
+    SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor(workerStep.getName() + "-");
+    taskExecutor.setConcurrencyLimit(threadCount);
+
+    TaskExecutorPartitionHandler partitionHandler = new TaskExecutorPartitionHandler();
+    partitionHandler.setStep(workerStep);
+    partitionHandler.setTaskExecutor(taskExecutor);
+    partitionHandler.setGridSize(gridSize);
+    return partitionHandler;
+  }
+
+  @Bean
+  public Step partitionedJdbcCursorStep() {
+    return new StepBuilder("partitionedJdbcCursorStep", jobRepository)
+        .partitioner("partitionedJdbcCursorWorkerStep", customerIdRangePartitioner())
+        .partitionHandler(partitionedJdbcCursorPartitionHandler(null, null))
+        .build();
+  }
+
+  @Bean
+  public Step partitionedJdbcPagingStep() {
+    return new StepBuilder("partitionedJdbcPagingStep", jobRepository)
+        .partitioner("partitionedJdbcPagingWorkerStep", customerIdRangePartitioner())
+        .partitionHandler(partitionedJdbcPagingPartitionHandler(null, null))
+        .build();
+  }
+
+  @Bean
+  public Step partitionedMappingSqlQueryStep() {
+    return new StepBuilder("partitionedMappingSqlQueryStep", jobRepository)
+        .partitioner("partitionedMappingSqlQueryWorkerStep", customerIdRangePartitioner())
+        .partitionHandler(partitionedMappingSqlQueryPartitionHandler(null, null))
+        .build();
+  }
+
+  // ========== Memory-mapped CSV (파일 바이트 구간 파티셔닝) ==========
+  // data/products-100k.csv 를 개행 기준 바이트 구간으로 나누어 구간마다 워커 Step 을 병렬 실행
+
+  @Bean
+  public FileRangePartitioner productCsvRangePartitioner() {
+    return new FileRangePartitioner(new FileSystemResource("data/products-100k.csv"));
+  }
+
+  /**
+   * 13. MemoryMappedFlatFileItemReader - 파티션 바이트 구간(startOffset ~ endOffset)만 메모리 매핑으로 읽는 리더
+   * 파티션 컨텍스트가 없으면 파일 전체를 읽음
+   */
+  @Bean
+  @StepScope
+  public MemoryMappedFlatFileItemReader<Product> memoryMappedFlatFileItemReader(
+      @Value("#{stepExecutionContext['startOffset'] ?: 0L}") Long startOffset,
+      @Value("#{stepExecutionContext['endOffset'] ?: -1L}") Long endOffset) {
+    MemoryMappedFlatFileItemReader<Product> reader = new MemoryMappedFlatFileItemReader<>();
+    reader.setName("memoryMappedFlatFileItemReader");
+    reader.setResource(new FileSystemResource("data/products-100k.csv"));
+    reader.setLineMapper(new ProductLineMapper());
+    reader.setStartOffset(startOffset);
+    reader.setEndOffset(endOffset);
+    reader.setLinesToSkip(1); // 헤더 라인 스킵 (첫 구간에만 적용)
+    reader.setStrict(false);
+    return reader;
+  }
+
+  @Bean
+  public Step memoryMappedCsvWorkerStep() {
+    return this.<Product, Product>adaptiveChunk("memoryMappedCsvWorkerStep")
+        .reader(memoryMappedFlatFileItemReader(null, null))
+        .processor(productItemProcessor)
+        .writer(stagingProductItemWriter())
+        .build();
+  }
+
+  @Bean
+  @StepScope
+  public TaskExecutorPartitionHandler memoryMappedCsvPartitionHandler(
+      @Value("#{jobParameters['gridSize'] ?: 4}") Integer gridSize,
+      @Value("#{jobParameters['threadCount'] ?: 4}") Integer threadCount) {
+    return partitionHandler(memoryMappedCsvWorkerStep(), gridSize, threadCount);
+  }
+
+  @Bean
+  public Step memoryMappedCsvStep() {
+    return new StepBuilder("memoryMappedCsvStep", jobRepository)
+        .partitioner("memoryMappedCsvWorkerStep", productCsvRangePartitioner())
+        .partitionHandler(memoryMappedCsvPartitionHandler(null, null))
+        .build();
+  }
+
+  // ========== MultiResource 파일 단위 파티셔닝 ==========
+  // data/products-part*-100k.csv 를 파일(또는 파일 그룹) 단위 파티션으로 나누어 워커 Step 을 병렬 실행
+
+  @Bean
+  public ResourceGroupPartitioner productPartFilesPartitioner() {
+    return new ResourceGroupPartitioner("file:data/products-part*-100k.csv");
+  }
+
+  /**
+   * 7-1. 파티션에 배정된 파일만 읽는 MultiResourceItemReader
+   * 파티션마다 위임 리더를 새로 만들어 스레드 간에 공유하지 않으며, 재시작 상태(파일 인덱스 + 라인 수)는 파티션별로 저장됨
+   * 파티션 컨텍스트가 없으면 패턴에 매칭되는 모든 파일을 읽음
+   */
+  @Bean
+  @StepScope
+  public MultiResourceItemReader<Product> partitionedMultiResourceItemReader(
+      @Value("#{stepExecution}") StepExecution stepExecution) {
+    return new MultiResourceItemReaderBuilder<Product>()
+        .name("partitionedMultiResourceItemReader")
+        .resources(ResourceGroupPartitioner.resources(
+            stepExecution != null ? stepExecution.getExecutionContext() : null, "file:data/products-part*-100k.csv"))
+        .delegate(new FlatFileItemReaderBuilder<Product>()
+            .name("partitionedMultiResourceProductReader")
+            .lineMapper(new ProductLineMapper())
+            .linesToSkip(1)
+            .strict(false)
+            .build())
+        .build();
+  }
+
+  @Bean
+  public Step partitionedMultiResourceWorkerStep() {
+    return this.<Product, Product>adaptiveChunk("partitionedMultiResourceWorkerStep")
+        .reader(partitionedMultiResourceItemReader(null))
+        .processor(productItemProcessor)
+        .writer(stagingProductItemWriter())
+        .build();
+  }
+
+  @Bean
+  @StepScope
+  public TaskExecutorPartitionHandler partitionedMultiResourcePartitionHandler(
+      @Value("#{jobParameters['gridSize'] ?: 4}") Integer gridSize,
+      @Value("#{jobParameters['threadCount'] ?: 4}") Integer threadCount) {
+    return partitionHandler(partitionedMultiResourceWorkerStep(), gridSize, threadCount);
+  }
+
+  @Bean
+  public Step partitionedMultiResourceStep() {
+    return new StepBuilder("partitionedMultiResourceStep", jobRepository)
+        .partitioner("partitionedMultiResourceWorkerStep", productPartFilesPartitioner())
+        .partitionHandler(partitionedMultiResourcePartitionHandler(null, null))
+        .build();
+  }
+
+  // ========== Columnar cache (텍스트 입력 -> 컬럼형 바이너리 캐시) ==========
+  // 첫 Step 이 원본을 캐시 파일로 변환(원본이 바뀌지 않았으면 건너뜀)하고, 다음 Step 이 캐시에서 item 을 읽음
+
+  /**
+   * 변환 중인 원본 리더를 Step 실행마다 따로 가지도록 Step 스코프로 생성
+   */
+  @Bean
+  @StepScope
+  public ColumnarCacheTasklet<Product> productCsvColumnarCacheTasklet() {
+    return new ColumnarCacheTasklet<>(
+        new FileSystemResource("data/products-100k.csv"),
+        new FileSystemResource("data/cache/products-100k.csv.cbc"),
+        ColumnarSchemas.PRODUCT,
+        new FlatFileItemReaderBuilder<Product>()
+            .name("productCsvColumnarSourceReader")
+            .resource(new FileSystemResource("data/products-100k.csv"))
+            .lineMapper(new ProductLineMapper())
+            .linesToSkip(1)
+            .build());
+  }
+
+  @Bean
+  public Step productCsvColumnarCacheStep() {
+    return new StepBuilder("productCsvColumnarCacheStep", jobRepository)
+        .tasklet(productCsvColumnarCacheTasklet(), transactionManager)
+        .build();
+  }
+
+  @Bean
+  @StepScope
+  public ColumnarCacheTasklet<Customer> customerJsonColumnarCacheTasklet() {
+    StreamingCustomerJsonItemReader sourceReader = new StreamingCustomerJsonItemReader();
+    sourceReader.setName("customerJsonColumnarSourceReader");
+    sourceReader.setResource(new FileSystemResource("data/customers-100k.json"));
+
+    return new ColumnarCacheTasklet<>(
+        new FileSystemResource("data/customers-100k.json"),
+        new FileSystemResource("data/cache/customers-100k.json.cbc"),
+        ColumnarSchemas.CUSTOMER,
+        sourceReader);
+  }
+
+  @Bean
+  public Step customerJsonColumnarCacheStep() {
+    return new StepBuilder("customerJsonColumnarCacheStep", jobRepository)
+        .tasklet(customerJsonColumnarCacheTasklet(), transactionManager)
+        .build();
+  }
+
+  /**
+   * 15. ColumnarFileItemReader - 컬럼형 캐시 파일 읽기 (products-100k.csv 변환본)
+   */
+  @Bean
+  @StepScope
+  public ColumnarFileItemReader<Product> columnarProductItemReader() {
+    ColumnarFileItemReader<Product> reader = new ColumnarFileItemReader<>();
+    reader.setName("columnarProductItemReader");
+    reader.setResource(new FileSystemResource("data/cache/products-100k.csv.cbc"));
+    reader.setSchema(ColumnarSchemas.PRODUCT);
+    reader.setStrict(false);
+    return reader;
+  }
+
+  /**
+   * 15-1. ColumnarFileItemReader - 컬럼형 캐시 파일 읽기 (customers-100k.json 변환본)
+   */
+  @Bean
+  @StepScope
+  public ColumnarFileItemReader<Customer> columnarCustomerItemReader() {
+    ColumnarFileItemReader<Customer> reader = new ColumnarFileItemReader<>();
+    reader.setName("columnarCustomerItemReader");
+    reader.setResource(new FileSystemResource("data/cache/customers-100k.json.cbc"));
+    reader.setSchema(ColumnarSchemas.CUSTOMER);
+    reader.setStrict(false);
+    return reader;
+  }
+
+  @Bean
+  public Step columnarProductStep() {
+    return this.<Product, Product>adaptiveChunk("columnarProductStep")
+        .reader(columnarProductItemReader())
+        .processor(productItemProcessor)
+        .writer(stagingProductItemWriter())
+        .build();
+  }
+
+  @Bean
+  public Step columnarCustomerStep() {
+    return this.<Customer, CustomerProcessed>adaptiveChunk("columnarCustomerStep")
+        .reader(columnarCustomerItemReader())
         .processor(customerItemProcessor)
         .writer(customerItemWriter())
         .build();
   }
 
+  // ========== Async 처리 (AsyncItemProcessor / AsyncItemWriter) ==========
+  // 청크의 각 item 처리를 TaskExecutor 로 동시에 실행하고, AsyncItemWriter 가 Future 를 입력 순서대로 모아 위임 writer 에 전달
+  // 프로세서가 외부 조회 같은 I/O 를 할 때 청크 스레드에서 item 마다 직렬로 기다리지 않도록 함
+
+  /**
+   * item 처리용 TaskExecutor (Step 실행마다 새로 생성, Step 종료 시 정리)
+   * Java 21 이상이면 가상 스레드, 아니면 threadCount 크기의 플랫폼 스레드 풀을 사용
+   * 동시 처리 수는 Job 파라미터 threadCount (기본 4)
+   */
+  @Bean
+  @StepScope
+  public TaskExecutor asyncItemTaskExecutor(@Value("#{jobParameters['threadCount'] ?: 4}") Integer threadCount) {
+    if (Runtime.version().feature() >= 21) {
+      SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("async-item-");
+      taskExecutor.setVirtualThreads(true);
+      taskExecutor.setConcurrencyLimit(threadCount);
+      return taskExecutor;
+    }
+    ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+    taskExecutor.setThreadNamePrefix("async-item-");
+    taskExecutor.setCorePoolSize(threadCount);
+    taskExecutor.setMaxPoolSize(threadCount);
+    taskExecutor.initialize();
+    return taskExecutor;
+  }
+
+  @Bean
+  public AsyncItemProcessor<Customer, CustomerProcessed> asyncCustomerItemProcessor() {
+    AsyncItemProcessor<Customer, CustomerProcessed> processor = new AsyncItemProcessor<>();
+    processor.setDelegate(customerItemProcessor);
+    processor.setTaskExecutor(asyncItemTaskExecutor(null));
+    return processor;
+  }
+
+  @Bean
+  public AsyncItemWriter<CustomerProcessed> asyncCustomerItemWriter() {
+    AsyncItemWriter<CustomerProcessed> writer = new AsyncItemWriter<>();
+    writer.setDelegate(customerItemWriter());
+    return writer;
+  }
+
+  @Bean
+  public AsyncItemProcessor<Product, Product> asyncProductItemProcessor() {
+    AsyncItemProcessor<Product, Product> processor = new AsyncItemProcessor<>();
+    processor.setDelegate(productItemProcessor);
+    processor.setTaskExecutor(asyncItemTaskExecutor(null));
+    return processor;
+  }
+
+  @Bean
+  public AsyncItemWriter<Product> asyncProductItemWriter() {
+    AsyncItemWriter<Product> writer = new AsyncItemWriter<>();
+    writer.setDelegate(stagingProductItemWriter());
+    return writer;
+  }
+
+  /**
+   * jdbcCursorStep 의 Async 버전 (청크 하나의 item 들이 동시에 처리되도록 청크 크기를 키움)
+   */
+  @Bean
+  public Step asyncJdbcCursorStep() {
+    return new StepBuilder("asyncJdbcCursorStep", jobRepository)
+        .<Customer, Future<CustomerProcessed>>chunk(100, transactionManager)
+        .reader(jdbcCursorItemReader(null, null, null))
+        .processor(asyncCustomerItemProcessor())
+        .writer(asyncCustomerItemWriter())
+        .listener(customerTotalItemsListener())
+        .build();
+  }
+
+  /**
+   * flatFileStep 의 Async 버전
+   */
+  @Bean
+  public Step asyncFlatFileStep() {
+    return new StepBuilder("asyncFlatFileStep", jobRepository)
+        .<Product, Future<Product>>chunk(100, transactionManager)
+        .reader(flatFileItemReader())
+        .processor(asyncProductItemProcessor())
+        .writer(asyncProductItemWriter())
+        .listener((StepExecutionListener) productItemProcessor) // delegate 는 자동 등록되지 않으므로 캐시 적재를 위해 직접 등록
+        .listener(productFileTotalItemsListener())
+        .build();
+  }
+
+  // ========== Chunk 단위 처리 (ChunkItemProcessor) ==========
+  // ItemProcessor 대신 chunk 전체를 한 번에 변환하는 ChunkItemProcessor 를 사용하는 Step
+
+  @Bean
+  public Step chunkProcessingJdbcCursorStep() {
+    return chunkProcessingStep("chunkProcessingJdbcCursorStep",
+        jdbcCursorItemReader(null, null, null), customerChunkProcessor, customerItemWriter(),
+        customerTotalItemsListener());
+  }
+
+  @Bean
+  public Step chunkProcessingFlatFileStep() {
+    return chunkProcessingStep("chunkProcessingFlatFileStep",
+        flatFileItemReader(), productChunkProcessor, stagingProductItemWriter(),
+        productChunkProcessor, // 카테고리 할인 캐시 적재
+        productFileTotalItemsListener());
+  }
+
+  /**
+   * 이미 customer_processed 에 기록된 customer 를 CustomerItemProcessor 앞에서 제외하는 Step
+   * 같은 데이터로 다시 실행해도 중복 row 를 만들지 않음
+   */
+  @Bean
+  public Step idempotentJdbcCursorStep() {
+    ProcessedCustomerFilter processedCustomerFilter = processedCustomerFilter();
+    // Step 스코프 프록시의 메서드를 설정 시점에 호출하지 않도록 메서드 참조로 감싸서 연결
+    ChunkItemProcessor<Customer, Customer> filter = processedCustomerFilter::process;
+    return chunkProcessingStep("idempotentJdbcCursorStep", jdbcCursorItemReader(null, null, null),
+        filter.andThen(ChunkItemProcessor.of(customerItemProcessor)), customerItemWriter(),
+        processedCustomerFilter, customerTotalItemsListener());
+  }
+
+  /**
+   * 처리 완료 customer id 로 만든 Bloom filter 를 Step 실행마다 따로 가지도록 Step 스코프로 생성
+   */
+  @Bean
+  @StepScope
+  public ProcessedCustomerFilter processedCustomerFilter() {
+    return new ProcessedCustomerFilter(dataSource);
+  }
+
+  /**
+   * ItemProcessor 자리에 ChunkItemProcessor 를 연결한 chunk 지향 Step 생성
+   * StepBuilder.chunk() 는 item 단위 ItemProcessor 만 받으므로 ChunkOrientedTasklet 을 직접 구성함
+   * (읽기/트랜잭션/재시작 동작은 chunk() 로 만든 Step 과 같음)
+   */
+  private <I, O> Step chunkProcessingStep(String name, ItemReader<? extends I> reader,
+                                          ChunkItemProcessor<I, O> processor, ItemWriter<? super O> writer,
+                                          StepExecutionListener... listeners) {
+    AdaptiveCompletionPolicy completionPolicy = adaptiveCompletionPolicy(null);
+    RepeatTemplate chunkTemplate = new RepeatTemplate();
+    chunkTemplate.setCompletionPolicy(completionPolicy);
+
+    ChunkOrientedTasklet<I> tasklet = new ChunkOrientedTasklet<>(
+        new SimpleChunkProvider<>(reader, chunkTemplate),
+        new ChunkItemProcessorAdapter<>(processor, writer));
+
+    TaskletStepBuilder builder = new StepBuilder(name, jobRepository)
+        .tasklet(tasklet, transactionManager);
+    if (reader instanceof ItemStream stream) {
+      builder.stream(stream);
+    }
+    if (writer instanceof ItemStream stream) {
+      builder.stream(stream);
+    }
+    builder.listener((StepExecutionListener) completionPolicy);
+    builder.listener((ChunkListener) completionPolicy);
+    for (StepExecutionListener listener : listeners) {
+      builder.listener(listener);
+    }
+    return builder.build();
+  }
+
   // ========== Jobs ==========
 
   @Bean
@@ -406,6 +1263,20 @@ public class BatchConfig {
         .build();
   }
 
+  @Bean
+  public Job prefetchingJdbcCursorJob() {
+    return new JobBuilder("prefetchingJdbcCursorJob", jobRepository)
+        .start(prefetchingJdbcCursorStep())
+        .build();
+  }
+
+  @Bean
+  public Job multiRowInsertJdbcCursorJob() {
+    return new JobBuilder("multiRowInsertJdbcCursorJob", jobRepository)
+        .start(multiRowInsertJdbcCursorStep())
+        .build();
+  }
+
   @Bean
   public Job jdbcPagingJob() {
     return new JobBuilder("jdbcPagingJob", jobRepository)
@@ -420,6 +1291,13 @@ public class BatchConfig {
         .build();
   }
 
+  @Bean
+  public Job fixedPointFlatFileJob() {
+    return new JobBuilder("fixedPointFlatFileJob", jobRepository)
+        .start(fixedPointFlatFileStep())
+        .build();
+  }
+
   @Bean
   public Job jsonJob() {
     return new JobBuilder("jsonJob", jobRepository)
@@ -427,6 +1305,13 @@ public class BatchConfig {
         .build();
   }
 
+  @Bean
+  public Job streamingJsonJob() {
+    return new JobBuilder("streamingJsonJob", jobRepository)
+        .start(streamingJsonStep())
+        .build();
+  }
+
   @Bean
   public Job listItemJob() {
     return new JobBuilder("listItemJob", jobRepository)
@@ -448,6 +1333,64 @@ public class BatchConfig {
         .build();
   }
 
+  @Bean
+  public Job partitionedMultiResourceJob() {
+    return new JobBuilder("partitionedMultiResourceJob", jobRepository)
+        .start(partitionedMultiResourceStep())
+        .build();
+  }
+
+  @Bean
+  public Job columnarProductCsvJob() {
+    return new JobBuilder("columnarProductCsvJob", jobRepository)
+        .start(productCsvColumnarCacheStep())
+        .next(columnarProductStep())
+        .build();
+  }
+
+  @Bean
+  public Job columnarCustomerJsonJob() {
+    return new JobBuilder("columnarCustomerJsonJob", jobRepository)
+        .start(customerJsonColumnarCacheStep())
+        .next(columnarCustomerStep())
+        .build();
+  }
+
+  @Bean
+  public Job asyncJdbcCursorJob() {
+    return new JobBuilder("asyncJdbcCursorJob", jobRepository)
+        .start(asyncJdbcCursorStep())
+        .build();
+  }
+
+  @Bean
+  public Job asyncFlatFileJob() {
+    return new JobBuilder("asyncFlatFileJob", jobRepository)
+        .start(asyncFlatFileStep())
+        .build();
+  }
+
+  @Bean
+  public Job chunkProcessingJdbcCursorJob() {
+    return new JobBuilder("chunkProcessingJdbcCursorJob", jobRepository)
+        .start(chunkProcessingJdbcCursorStep())
+        .build();
+  }
+
+  @Bean
+  public Job chunkProcessingFlatFileJob() {
+    return new JobBuilder("chunkProcessingFlatFileJob", jobRepository)
+        .start(chunkProcessingFlatFileStep())
+        .build();
+  }
+
+  @Bean
+  public Job idempotentJdbcCursorJob() {
+    return new JobBuilder("idempotentJdbcCursorJob", jobRepository)
+        .start(idempotentJdbcCursorStep())
+        .build();
+  }
+
   @Bean
   public Job jpaPagingJob() {
     return new JobBuilder("jpaPagingJob", jobRepository)
@@ -455,6 +1398,13 @@ public class BatchConfig {
         .build();
   }
 
+  @Bean
+  public Job keysetJpaPagingJob() {
+    return new JobBuilder("keysetJpaPagingJob", jobRepository)
+        .start(keysetJpaPagingStep())
+        .build();
+  }
+
   @Bean
   public Job jpaCursorJob() {
     return new JobBuilder("jpaCursorJob", jobRepository)
@@ -469,6 +1419,13 @@ public class BatchConfig {
         .build();
   }
 
+  @Bean
+  public Job statelessJpaCursorJob() {
+    return new JobBuilder("statelessJpaCursorJob", jobRepository)
+        .start(statelessJpaCursorStep())
+        .build();
+  }
+
   @Bean
   public Job staxEventJob() {
     return new JobBuilder("staxEventJob", jobRepository)
@@ -476,10 +1433,45 @@ public class BatchConfig {
         .build();
   }
 
+  @Bean
+  public Job staxCursorJob() {
+    return new JobBuilder("staxCursorJob", jobRepository)
+        .start(staxCursorStep())
+        .build();
+  }
+
   @Bean
   public Job mappingSqlQueryJob() {
     return new JobBuilder("mappingSqlQueryJob", jobRepository)
         .start(mappingSqlQueryStep())
         .build();
   }
+
+  @Bean
+  public Job partitionedJdbcCursorJob() {
+    return new JobBuilder("partitionedJdbcCursorJob", jobRepository)
+        .start(partitionedJdbcCursorStep())
+        .build();
+  }
+
+  @Bean
+  public Job partitionedJdbcPagingJob() {
+    return new JobBuilder("partitionedJdbcPagingJob", jobRepository)
+        .start(partitionedJdbcPagingStep())
+        .build();
+  }
+
+  @Bean
+  public Job partitionedMappingSqlQueryJob() {
+    return new JobBuilder("partitionedMappingSqlQueryJob", jobRepository)
+        .start(partitionedMappingSqlQueryStep())
+        .build();
+  }
+
+  @Bean
+  public Job memoryMappedCsvJob() {
+    return new JobBuilder("memoryMappedCsvJob", jobRepository)
+        .start(memoryMappedCsvStep())
+        .build();
+  }
 }
\ No newline at end of file
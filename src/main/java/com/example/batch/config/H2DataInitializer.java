@@ -26,6 +26,12 @@ public class H2DataInitializer implements CommandLineRunner {
         Integer.class
     );
 
+    // 카테고리별 할인 배율 (기본 10% 할인, 값을 바꾸면 ProductItemProcessor 결과에 반영됨)
+    jdbcTemplate.update(
+        "MERGE INTO category_discount (category, discount_rate) KEY (category) " +
+            "SELECT CONCAT('Category-', x), 0.9 FROM SYSTEM_RANGE(0, 9)"
+    );
+
     // 이미 customer / product 각각 10만 건 이상 있으면 패스
     boolean customerReady = (count != null && count >= 100_000);
     boolean productReady = (productCount != null && productCount >= 100_000);
@@ -0,0 +1,63 @@
+package com.example.batch.config;
+
+import com.example.batch.launch.JobLaunchScheduler;
+import com.example.batch.launch.JobProgressListenerRegistrar;
+import com.example.batch.launch.JobProgressPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.batch.core.configuration.support.JobRegistryBeanPostProcessor;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Configuration
+public class JobLaunchConfig {
+
+  /**
+   * 컨텍스트의 Job 을 JobRegistry 에 등록해 이름으로 찾을 수 있게 함 (BeanPostProcessor 이므로 static)
+   */
+  @Bean
+  public static JobRegistryBeanPostProcessor jobRegistryBeanPostProcessor(JobRegistry jobRegistry) {
+    JobRegistryBeanPostProcessor postProcessor = new JobRegistryBeanPostProcessor();
+    postProcessor.setJobRegistry(jobRegistry);
+    return postProcessor;
+  }
+
+  /**
+   * 모든 Job/Step 에 진행 상황 listener 를 등록 (BeanPostProcessor 이므로 static)
+   */
+  @Bean
+  public static JobProgressListenerRegistrar jobProgressListenerRegistrar(
+      ObjectProvider<JobProgressPublisher> jobProgressPublisher,
+      @Value("${batch.progress.min-interval:500ms}") Duration minInterval) {
+    return new JobProgressListenerRegistrar(jobProgressPublisher, minInterval);
+  }
+
+  /**
+   * 전체/Job 별 동시 실행 수를 제한하고 나머지 요청은 우선순위 대기열에 두는 스케줄러
+   * Job 별 한도는 batch.launch.job-limits.{jobName}, 없으면 batch.launch.max-concurrent-per-job
+   */
+  @Bean
+  public JobLaunchScheduler jobLaunchScheduler(
+      JobRepository jobRepository,
+      Environment environment,
+      MeterRegistry meterRegistry,
+      @Value("${batch.launch.max-concurrent-jobs:4}") int maxConcurrentJobs,
+      @Value("${batch.launch.max-concurrent-per-job:2}") int maxConcurrentPerJob,
+      @Value("${batch.launch.queue-capacity:100}") int queueCapacity) {
+    Map<String, Integer> jobLimits = Binder.get(environment)
+        .bind("batch.launch.job-limits", Bindable.mapOf(String.class, Integer.class))
+        .orElse(Map.of());
+    return new JobLaunchScheduler(jobRepository, new SimpleAsyncTaskExecutor("job-launch-"),
+        maxConcurrentJobs, maxConcurrentPerJob, jobLimits, queueCapacity, meterRegistry);
+  }
+}
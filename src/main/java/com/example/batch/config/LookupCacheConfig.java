@@ -0,0 +1,54 @@
+package com.example.batch.config;
+
+import com.example.batch.cache.LookupCache;
+import com.example.batch.processor.CategoryDiscount;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프로세서에서 참조 테이블 조회에 사용하는 {@link LookupCache} 설정
+ */
+@Configuration
+public class LookupCacheConfig {
+
+  private static final RowMapper<CategoryDiscount> CATEGORY_DISCOUNT_MAPPER =
+      (rs, rowNum) -> CategoryDiscount.of(rs.getString("category"), rs.getBigDecimal("discount_rate"));
+
+  /**
+   * category -> 할인 배율 (category_discount 테이블)
+   */
+  @Bean
+  public LookupCache<String, CategoryDiscount> categoryDiscountCache(
+      DataSource dataSource,
+      @Value("${batch.lookup-cache.category-discount.maximum-size:1000}") int maximumSize,
+      @Value("${batch.lookup-cache.category-discount.expire-after-write:10m}") Duration expireAfterWrite) {
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+    return LookupCache.<String, CategoryDiscount>builder("categoryDiscount", category -> {
+          List<CategoryDiscount> found = jdbcTemplate.query(
+              "SELECT category, discount_rate FROM category_discount WHERE category = ?",
+              CATEGORY_DISCOUNT_MAPPER, category);
+          return found.isEmpty() ? null : found.get(0);
+        })
+        .bulkLoader(() -> {
+          Map<String, CategoryDiscount> discounts = new HashMap<>();
+          for (CategoryDiscount discount : jdbcTemplate.query(
+              "SELECT category, discount_rate FROM category_discount", CATEGORY_DISCOUNT_MAPPER)) {
+            discounts.put(discount.category(), discount);
+          }
+          return discounts;
+        })
+        .maximumSize(maximumSize)
+        .expireAfterWrite(expireAfterWrite)
+        .build();
+  }
+}
@@ -1,141 +1,121 @@
 package com.example.batch.controller;
 
+import com.example.batch.launch.JobExecutionStatus;
+import com.example.batch.launch.JobLaunchRequest;
+import com.example.batch.launch.JobLaunchTicket;
+import com.example.batch.launch.JobLaunchService;
+import com.example.batch.launch.JobProgressPublisher;
 import lombok.RequiredArgsConstructor;
-import org.springframework.batch.core.Job;
-import org.springframework.batch.core.JobParameters;
-import org.springframework.batch.core.JobParametersBuilder;
-import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.launch.NoSuchJobException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
-import java.util.Map;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/jobs")
 @RequiredArgsConstructor
 public class JobController {
 
-    private final JobLauncher jobLauncher;
-    private final Map<String, Job> jobs;
+    private final JobLaunchService jobLaunchService;
+    private final JobProgressPublisher jobProgressPublisher;
 
-    @PostMapping("/jdbc-cursor")
-    public String runJdbcCursorJob() throws Exception {
-        Job job = jobs.get("jdbcCursorJob");
-        JobParameters jobParameters = new JobParametersBuilder()
-                .addLong("time", System.currentTimeMillis())
-                .toJobParameters();
-        jobLauncher.run(job, jobParameters);
-        return "JdbcCursorJob 실행 완료";
+    /**
+     * 실행할 수 있는 Job 이름 목록
+     */
+    @GetMapping
+    public List<String> getJobNames() {
+        return jobLaunchService.getJobNames();
     }
 
-    @PostMapping("/jdbc-paging")
-    public String runJdbcPagingJob() throws Exception {
-        Job job = jobs.get("jdbcPagingJob");
-        JobParameters jobParameters = new JobParametersBuilder()
-                .addLong("time", System.currentTimeMillis())
-                .toJobParameters();
-        jobLauncher.run(job, jobParameters);
-        return "JdbcPagingJob 실행 완료";
+    /**
+     * 이름으로 Job 실행 요청 (Job 종료를 기다리지 않고 202 와 접수증을 반환)
+     * 실행 파라미터(chunkSize, threadCount, gridSize, fetchSize, prefetchDepth, minId, maxId)는 query parameter 로 전달하며,
+     * 생략하면 각 Step 스코프 빈의 기본값을 사용함
+     * 동시 실행 한도가 차 있으면 priority(높을수록 먼저) 순서로 대기하며, 시작되면 접수증에 executionId 가 채워짐
+     */
+    @PostMapping("/{jobName}")
+    public ResponseEntity<JobLaunchTicket> launchJob(@PathVariable String jobName, JobLaunchRequest request) throws Exception {
+        JobLaunchTicket ticket = jobLaunchService.launch(jobName, request);
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/jobs/launches/{ticketId}")
+                .buildAndExpand(ticket.ticketId())
+                .toUri();
+        return ResponseEntity.accepted()
+                .location(location)
+                .body(ticket);
     }
 
-    @PostMapping("/flat-file")
-    public String runFlatFileJob() throws Exception {
-        Job job = jobs.get("flatFileJob");
-        JobParameters jobParameters = new JobParametersBuilder()
-                .addLong("time", System.currentTimeMillis())
-                .toJobParameters();
-        jobLauncher.run(job, jobParameters);
-        return "FlatFileJob 실행 완료";
+    /**
+     * 대기 중인 실행 요청 (실행될 순서대로)
+     */
+    @GetMapping("/launches")
+    public List<JobLaunchTicket> getQueuedLaunches() {
+        return jobLaunchService.getQueuedTickets();
     }
 
-    @PostMapping("/json")
-    public String runJsonJob() throws Exception {
-        Job job = jobs.get("jsonJob");
-        JobParameters jobParameters = new JobParametersBuilder()
-                .addLong("time", System.currentTimeMillis())
-                .toJobParameters();
-        jobLauncher.run(job, jobParameters);
-        return "JsonJob 실행 완료";
+    /**
+     * 실행 요청 접수증 조회 (대기 중이면 QUEUED, 시작했으면 LAUNCHED 와 executionId)
+     */
+    @GetMapping("/launches/{ticketId}")
+    public ResponseEntity<JobLaunchTicket> getLaunch(@PathVariable long ticketId) {
+        return ResponseEntity.of(jobLaunchService.getTicket(ticketId));
     }
 
-    @PostMapping("/list-item")
-    public String runListItemJob() throws Exception {
-        Job job = jobs.get("listItemJob");
-        JobParameters jobParameters = new JobParametersBuilder()
-                .addLong("time", System.currentTimeMillis())
-                .toJobParameters();
-        jobLauncher.run(job, jobParameters);
-        return "ListItemJob 실행 완료";
+    /**
+     * Job 실행 상태 조회 (Step 별 read/write/skip 건수, 처리량, ETA 포함)
+     */
+    @GetMapping("/executions/{executionId}")
+    public ResponseEntity<JobExecutionStatus> getJobExecutionStatus(@PathVariable long executionId) {
+        return ResponseEntity.of(jobLaunchService.getStatus(executionId));
     }
 
-    @PostMapping("/repository-item")
-    public String runRepositoryItemJob() throws Exception {
-        Job job = jobs.get("repositoryItemJob");
-        JobParameters jobParameters = new JobParametersBuilder()
-                .addLong("time", System.currentTimeMillis())
-                .toJobParameters();
-        jobLauncher.run(job, jobParameters);
-        return "RepositoryItemJob 실행 완료";
+    /**
+     * Job 실행 진행 상황 스트림 (Server-Sent Events)
+     * status 이벤트로 현재 상태를 보낸 뒤, chunk 가 커밋될 때마다 progress 이벤트를 보내고 Job 이 끝나면 종료
+     */
+    @GetMapping(value = "/executions/{executionId}/progress", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamJobExecutionProgress(@PathVariable long executionId) {
+        SseEmitter emitter = jobProgressPublisher.subscribe(executionId);
+        return emitter == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(emitter);
     }
 
-    @PostMapping("/multi-resource")
-    public String runMultiResourceJob() throws Exception {
-        Job job = jobs.get("multiResourceJob");
-        JobParameters jobParameters = new JobParametersBuilder()
-                .addLong("time", System.currentTimeMillis())
-                .toJobParameters();
-        jobLauncher.run(job, jobParameters);
-        return "MultiResourceJob 실행 완료";
+    @ExceptionHandler(NoSuchJobException.class)
+    public ResponseEntity<String> handleNoSuchJob(NoSuchJobException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
     }
 
-    @PostMapping("/jpa-paging")
-    public String runJpaPagingJob() throws Exception {
-        Job job = jobs.get("jpaPagingJob");
-        JobParameters jobParameters = new JobParametersBuilder()
-                .addLong("time", System.currentTimeMillis())
-                .toJobParameters();
-        jobLauncher.run(job, jobParameters);
-        return "JpaPagingJob 실행 완료";
+    /**
+     * 실행 대기열이 가득 찬 경우
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<String> handleQueueFull(RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(e.getMessage());
     }
 
-    @PostMapping("/jpa-cursor")
-    public String runJpaCursorJob() throws Exception {
-        Job job = jobs.get("jpaCursorJob");
-        JobParameters jobParameters = new JobParametersBuilder()
-                .addLong("time", System.currentTimeMillis())
-                .toJobParameters();
-        jobLauncher.run(job, jobParameters);
-        return "JpaCursorJob 실행 완료";
+    @ExceptionHandler({IllegalArgumentException.class, JobParametersInvalidException.class})
+    public ResponseEntity<String> handleInvalidParameters(Exception e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
     }
 
-    @PostMapping("/hint-jpa-cursor")
-    public String runHintSettableJpaCursorJob() throws Exception {
-        Job job = jobs.get("hintSettableJpaCursorJob");
-        JobParameters jobParameters = new JobParametersBuilder()
-                .addLong("time", System.currentTimeMillis())
-                .toJobParameters();
-        jobLauncher.run(job, jobParameters);
-        return "HintSettableJpaCursorJob 실행 완료";
-    }
-
-    @PostMapping("/stax-xml")
-    public String runStaxXmlJob() throws Exception {
-        Job job = jobs.get("staxEventJob");
-        JobParameters jobParameters = new JobParametersBuilder()
-                .addLong("time", System.currentTimeMillis())
-                .toJobParameters();
-        jobLauncher.run(job, jobParameters);
-        return "StaxEventJob 실행 완료";
-    }
-
-    @PostMapping("/mapping-sql")
-    public String runMappingSqlJob() throws Exception {
-        Job job = jobs.get("mappingSqlQueryJob");
-        JobParameters jobParameters = new JobParametersBuilder()
-                .addLong("time", System.currentTimeMillis())
-                .toJobParameters();
-        jobLauncher.run(job, jobParameters);
-        return "MappingSqlQueryJob 실행 완료";
+    /**
+     * 이미 실행 중이거나 완료된 JobInstance 등 실행을 시작할 수 없는 경우
+     */
+    @ExceptionHandler(JobExecutionException.class)
+    public ResponseEntity<String> handleJobExecutionException(JobExecutionException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
     }
 }
@@ -1,5 +1,6 @@
 package com.example.batch.entity;
 
+import com.example.batch.price.FixedPointPrice;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -29,5 +30,16 @@ public class Product {
     
     @Column(name = "stock")
     private Integer stock;
+
+    /**
+     * 고정 소수점 가격 (scale 2 최소 단위), 설정되지 않았으면 {@link FixedPointPrice#NO_PRICE}
+     * 설정된 경우 price 대신 이 값이 사용됨 ({@link FixedPointPrice#priceOf(Product)})
+     */
+    @Transient
+    private long priceMinor = FixedPointPrice.NO_PRICE;
+
+    public Product(Long id, String name, BigDecimal price, String category, Integer stock) {
+        this(id, name, price, category, stock, FixedPointPrice.NO_PRICE);
+    }
 }
 
@@ -0,0 +1,38 @@
+package com.example.batch.launch;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Job 실행 상태 조회 응답
+ *
+ * @param executionId Job 실행 id
+ * @param jobName     Job 이름
+ * @param status      Job 상태 (BatchStatus)
+ * @param exitCode    종료 코드
+ * @param startTime   시작 시각 (시작 전이면 null)
+ * @param endTime     종료 시각 (실행 중이면 null)
+ * @param steps       Step 별 진행 상황
+ */
+public record JobExecutionStatus(long executionId, String jobName, String status, String exitCode,
+                                 LocalDateTime startTime, LocalDateTime endTime, List<StepProgress> steps) {
+
+    public static JobExecutionStatus of(JobExecution jobExecution) {
+        List<StepProgress> steps = new ArrayList<>(jobExecution.getStepExecutions().size());
+        for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+            steps.add(StepProgress.of(stepExecution));
+        }
+        return new JobExecutionStatus(jobExecution.getId(), jobExecution.getJobInstance().getJobName(),
+                jobExecution.getStatus().name(), jobExecution.getExitStatus().getExitCode(),
+                jobExecution.getStartTime(), jobExecution.getEndTime(), steps);
+    }
+
+    public boolean isRunning() {
+        return BatchStatus.valueOf(status).isRunning();
+    }
+}
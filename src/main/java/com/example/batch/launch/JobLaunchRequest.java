@@ -0,0 +1,80 @@
+package com.example.batch.launch;
+
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+
+import java.util.UUID;
+
+/**
+ * Job 실행 시 Step 스코프 빈에 전달할 실행 파라미터 (값이 없으면 각 빈의 기본값 사용)와 실행 우선순위
+ * 실행 방식만 바꾸는 값이므로 JobInstance 를 구분하지 않는(non-identifying) 파라미터로 전달함
+ * JobInstance 는 요청마다 새로 만든 {@link #RUN_ID_KEY} 로 구분하므로, 같은 밀리초에 들어온 요청도 서로 다른 실행이 됨
+ * priority 는 Job 파라미터가 아니라 {@link JobLaunchScheduler} 대기열 순서에만 사용함
+ *
+ * @param chunkSize     첫 chunk 크기 (AdaptiveCompletionPolicy)
+ * @param threadCount   파티션/Async Step 의 동시 실행 스레드 수
+ * @param gridSize      파티션 수
+ * @param fetchSize     JDBC 리더의 fetch 크기 (페이징 리더는 페이지 크기)
+ * @param prefetchDepth PrefetchingItemStreamReader 가 미리 읽을 item 수
+ * @param minId         JDBC 리더가 읽을 customer.id 하한 (포함)
+ * @param maxId         JDBC 리더가 읽을 customer.id 상한 (포함)
+ * @param priority      대기열 우선순위 (높을수록 먼저 실행, 기본 0)
+ */
+public record JobLaunchRequest(Integer chunkSize, Integer threadCount, Integer gridSize, Integer fetchSize,
+                               Integer prefetchDepth, Long minId, Long maxId, Integer priority) {
+
+    /**
+     * 요청마다 새로 만드는 식별 파라미터 (UUID)
+     */
+    public static final String RUN_ID_KEY = "run.id";
+
+    public static final int MAX_THREAD_COUNT = 256;
+
+    public static final int MAX_GRID_SIZE = 1024;
+
+    /**
+     * @throws IllegalArgumentException 0 이하이거나 상한을 넘는 값이 있거나, id 범위가 잘못된 경우
+     */
+    public void validate() {
+        checkRange("chunkSize", chunkSize, Integer.MAX_VALUE);
+        checkRange("threadCount", threadCount, MAX_THREAD_COUNT);
+        checkRange("gridSize", gridSize, MAX_GRID_SIZE);
+        checkRange("fetchSize", fetchSize, Integer.MAX_VALUE);
+        checkRange("prefetchDepth", prefetchDepth, Integer.MAX_VALUE);
+        if (minId != null && minId < 0) {
+            throw new IllegalArgumentException("minId must not be negative: " + minId);
+        }
+        if (minId != null && maxId != null && minId > maxId) {
+            throw new IllegalArgumentException("minId must not be greater than maxId: " + minId + " > " + maxId);
+        }
+    }
+
+    public int priorityOrDefault() {
+        return priority == null ? 0 : priority;
+    }
+
+    public JobParameters toJobParameters() {
+        JobParametersBuilder builder = new JobParametersBuilder()
+                .addString(RUN_ID_KEY, UUID.randomUUID().toString());
+        addIfPresent(builder, "chunkSize", chunkSize);
+        addIfPresent(builder, "threadCount", threadCount);
+        addIfPresent(builder, "gridSize", gridSize);
+        addIfPresent(builder, "fetchSize", fetchSize);
+        addIfPresent(builder, "prefetchDepth", prefetchDepth);
+        addIfPresent(builder, "minId", minId);
+        addIfPresent(builder, "maxId", maxId);
+        return builder.toJobParameters();
+    }
+
+    private static void checkRange(String name, Integer value, int max) {
+        if (value != null && (value <= 0 || value > max)) {
+            throw new IllegalArgumentException(name + " must be between 1 and " + max + ": " + value);
+        }
+    }
+
+    private static void addIfPresent(JobParametersBuilder builder, String name, Number value) {
+        if (value != null) {
+            builder.addLong(name, value.longValue(), false);
+        }
+    }
+}
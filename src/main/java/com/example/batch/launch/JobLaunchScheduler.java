@@ -0,0 +1,320 @@
+package com.example.batch.launch;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.core.task.TaskExecutor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Job 실행 요청을 우선순위 대기열에 넣고, 전체/Job 별 동시 실행 수 한도 안에서 차례로 실행하는 스케줄러
+ * 요청이 몰려도 동시에 실행되는 Job 수가 한도를 넘지 않아 커넥션 풀/CPU 를 두고 서로 경쟁하지 않음
+ *
+ * <ul>
+ *   <li>대기열 순서: 우선순위가 높은 요청 먼저, 같으면 먼저 접수된 요청 먼저</li>
+ *   <li>Job 별 한도에 걸린 요청은 건너뛰고 다음 순서의 다른 Job 을 먼저 실행함</li>
+ *   <li>대기열이 queueCapacity 만큼 차 있으면 접수하지 않음 ({@link RejectedExecutionException})</li>
+ *   <li>Job 이 끝나면(성공/실패 모두) 자리를 반납하고 대기열에서 다음 요청을 실행함</li>
+ * </ul>
+ *
+ * Micrometer 지표: 대기열 크기 {@value #QUEUE_SIZE_METRIC}, 실행 중인 Job 수 {@value #RUNNING_METRIC}
+ * (Job 별은 {@value #JOB_RUNNING_METRIC}, tag: job.name), 대기 시간 {@value #WAIT_METRIC} (tag: job.name)
+ */
+@Slf4j
+public class JobLaunchScheduler {
+
+    public static final String QUEUE_SIZE_METRIC = "spring.batch.launch.queue.size";
+
+    public static final String RUNNING_METRIC = "spring.batch.launch.running";
+
+    public static final String JOB_RUNNING_METRIC = "spring.batch.launch.job.running";
+
+    public static final String WAIT_METRIC = "spring.batch.launch.wait";
+
+    /**
+     * 실행이 끝난 접수증을 조회용으로 남겨 둘 최대 개수
+     */
+    private static final int MAX_FINISHED_TICKETS = 1000;
+
+    private static final Comparator<PendingLaunch> ORDER = Comparator
+            .comparingInt((PendingLaunch pending) -> pending.priority).reversed()
+            .thenComparingLong(pending -> pending.ticketId);
+
+    private final JobRepository jobRepository;
+
+    private final TaskExecutor taskExecutor;
+
+    private final int maxConcurrentJobs;
+
+    private final int maxConcurrentPerJob;
+
+    private final Map<String, Integer> jobLimits;
+
+    private final int queueCapacity;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Object lock = new Object();
+
+    private final TreeSet<PendingLaunch> queue = new TreeSet<>(ORDER);
+
+    /**
+     * 대기 중이거나 실행 중인 접수증
+     */
+    private final Map<Long, PendingLaunch> active = new HashMap<>();
+
+    private final Map<Long, PendingLaunch> finished = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, PendingLaunch> eldest) {
+            return size() > MAX_FINISHED_TICKETS;
+        }
+    };
+
+    private final Map<String, AtomicInteger> runningByJob = new HashMap<>();
+
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final AtomicInteger running = new AtomicInteger();
+
+    private final AtomicLong ticketSequence = new AtomicLong();
+
+    /**
+     * @param taskExecutor        Job 을 실행할 TaskExecutor (동시 실행 수는 이 스케줄러가 제한하므로 제한 없는 executor 사용)
+     * @param maxConcurrentJobs   동시에 실행할 수 있는 전체 Job 수
+     * @param maxConcurrentPerJob jobLimits 에 없는 Job 의 동시 실행 수
+     * @param jobLimits           Job 이름 -> 동시 실행 수
+     * @param queueCapacity       대기열 크기 (바로 시작할 요청도 잠시 대기열을 거침)
+     * @param meterRegistry       지표를 등록할 registry
+     */
+    public JobLaunchScheduler(JobRepository jobRepository, TaskExecutor taskExecutor, int maxConcurrentJobs,
+                              int maxConcurrentPerJob, Map<String, Integer> jobLimits, int queueCapacity,
+                              MeterRegistry meterRegistry) {
+        if (maxConcurrentJobs <= 0 || maxConcurrentPerJob <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("concurrency limits and queueCapacity must be positive");
+        }
+        jobLimits.forEach((jobName, limit) -> {
+            if (limit == null || limit <= 0) {
+                throw new IllegalArgumentException("job limit must be positive: " + jobName + "=" + limit);
+            }
+        });
+        this.jobRepository = jobRepository;
+        this.taskExecutor = taskExecutor;
+        this.maxConcurrentJobs = maxConcurrentJobs;
+        this.maxConcurrentPerJob = maxConcurrentPerJob;
+        this.jobLimits = Map.copyOf(jobLimits);
+        this.queueCapacity = queueCapacity;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder(QUEUE_SIZE_METRIC, queued, AtomicInteger::get)
+                .description("Job launches waiting for a free slot")
+                .register(meterRegistry);
+        Gauge.builder(RUNNING_METRIC, running, AtomicInteger::get)
+                .description("Jobs launched by JobLaunchScheduler and not yet finished")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 실행 요청을 접수하고, 한도에 여유가 있으면 바로 실행을 시작함
+     * @param priority 우선순위 (높을수록 먼저 실행)
+     * @return 접수증 (바로 시작했으면 LAUNCHED 와 executionId 포함)
+     * @throws RejectedExecutionException 대기열이 가득 찬 경우
+     * @throws JobExecutionException      바로 시작하려 했지만 이미 실행 중이거나 완료된 JobInstance 등으로 시작할 수 없는 경우
+     */
+    public JobLaunchTicket submit(Job job, JobParameters jobParameters, int priority) throws JobExecutionException {
+        PendingLaunch pending;
+        synchronized (lock) {
+            if (queue.size() >= queueCapacity) {
+                throw new RejectedExecutionException("Job launch queue is full (" + queueCapacity + "): " + job.getName());
+            }
+            pending = new PendingLaunch(ticketSequence.incrementAndGet(), job, jobParameters, priority, Instant.now());
+            queue.add(pending);
+            queued.incrementAndGet();
+            active.put(pending.ticketId, pending);
+        }
+        log.debug("Job launch queued: {} (ticket={}, priority={})", job.getName(), pending.ticketId, priority);
+
+        dispatch();
+        if (pending.failure instanceof JobExecutionException e) {
+            throw e;
+        }
+        return pending.toTicket();
+    }
+
+    public Optional<JobLaunchTicket> getTicket(long ticketId) {
+        synchronized (lock) {
+            PendingLaunch pending = active.get(ticketId);
+            if (pending == null) {
+                pending = finished.get(ticketId);
+            }
+            return Optional.ofNullable(pending).map(PendingLaunch::toTicket);
+        }
+    }
+
+    /**
+     * 대기 중인 접수증 (실행될 순서대로)
+     */
+    public List<JobLaunchTicket> getQueuedTickets() {
+        synchronized (lock) {
+            return queue.stream().map(PendingLaunch::toTicket).toList();
+        }
+    }
+
+    /**
+     * 한도에 여유가 있는 동안 대기열에서 실행할 요청을 꺼내 실행을 시작함
+     * 자리 계산은 lock 안에서, JobRepository 접근은 lock 밖에서 함
+     */
+    private void dispatch() {
+        List<PendingLaunch> launches = new ArrayList<>();
+        synchronized (lock) {
+            Iterator<PendingLaunch> iterator = queue.iterator();
+            while (running.get() < maxConcurrentJobs && iterator.hasNext()) {
+                PendingLaunch pending = iterator.next();
+                AtomicInteger jobRunning = runningCount(pending.jobName);
+                if (jobRunning.get() >= jobLimits.getOrDefault(pending.jobName, maxConcurrentPerJob)) {
+                    continue;
+                }
+                iterator.remove();
+                queued.decrementAndGet();
+                jobRunning.incrementAndGet();
+                running.incrementAndGet();
+                launches.add(pending);
+            }
+        }
+        for (PendingLaunch pending : launches) {
+            launch(pending);
+        }
+    }
+
+    private void launch(PendingLaunch pending) {
+        Instant launchedAt = Instant.now();
+        Timer.builder(WAIT_METRIC)
+                .description("Time a job launch waited in the queue")
+                .tag("job.name", pending.jobName)
+                .register(meterRegistry)
+                .record(Duration.between(pending.queuedAt, launchedAt));
+
+        // 실행 스레드에 넘긴 경우에만 Job 이 끝날 때 자리를 반납하고, 넘기지 못했으면 여기서 반납
+        AtomicBoolean submitted = new AtomicBoolean();
+        try {
+            TaskExecutorJobLauncher jobLauncher = new TaskExecutorJobLauncher();
+            jobLauncher.setJobRepository(jobRepository);
+            jobLauncher.setTaskExecutor(task -> {
+                taskExecutor.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        release(pending);
+                    }
+                });
+                submitted.set(true);
+            });
+            jobLauncher.afterPropertiesSet();
+
+            JobExecution jobExecution = jobLauncher.run(pending.job, pending.jobParameters);
+            pending.launched(jobExecution.getId(), launchedAt);
+            log.info("Job launched: {} (ticket={}, executionId={}, waited {} ms)", pending.jobName, pending.ticketId,
+                    jobExecution.getId(), Duration.between(pending.queuedAt, launchedAt).toMillis());
+        } catch (Exception e) {
+            pending.failed(e);
+            log.warn("Job launch failed: {} (ticket={}): {}", pending.jobName, pending.ticketId, e.getMessage());
+        } finally {
+            if (!submitted.get()) {
+                release(pending);
+            }
+        }
+    }
+
+    private void release(PendingLaunch pending) {
+        synchronized (lock) {
+            runningCount(pending.jobName).decrementAndGet();
+            running.decrementAndGet();
+            active.remove(pending.ticketId);
+            finished.put(pending.ticketId, pending);
+        }
+        dispatch();
+    }
+
+    private AtomicInteger runningCount(String jobName) {
+        return runningByJob.computeIfAbsent(jobName, name -> {
+            AtomicInteger count = new AtomicInteger();
+            Gauge.builder(JOB_RUNNING_METRIC, count, AtomicInteger::get)
+                    .description("Jobs launched by JobLaunchScheduler and not yet finished, per job")
+                    .tag("job.name", name)
+                    .register(meterRegistry);
+            return count;
+        });
+    }
+
+    /**
+     * 접수된 실행 요청 (상태는 실행 스레드와 조회 스레드가 함께 보므로 volatile)
+     */
+    private static final class PendingLaunch {
+
+        private final long ticketId;
+
+        private final Job job;
+
+        private final String jobName;
+
+        private final JobParameters jobParameters;
+
+        private final int priority;
+
+        private final Instant queuedAt;
+
+        private volatile Long executionId;
+
+        private volatile Instant launchedAt;
+
+        private volatile Exception failure;
+
+        private PendingLaunch(long ticketId, Job job, JobParameters jobParameters, int priority, Instant queuedAt) {
+            this.ticketId = ticketId;
+            this.job = job;
+            this.jobName = job.getName();
+            this.jobParameters = jobParameters;
+            this.priority = priority;
+            this.queuedAt = queuedAt;
+        }
+
+        private void launched(long executionId, Instant launchedAt) {
+            this.executionId = executionId;
+            this.launchedAt = launchedAt;
+        }
+
+        private void failed(Exception failure) {
+            this.failure = failure;
+        }
+
+        private JobLaunchTicket toTicket() {
+            Exception failure = this.failure;
+            JobLaunchTicket.State state = failure != null ? JobLaunchTicket.State.FAILED
+                    : executionId != null ? JobLaunchTicket.State.LAUNCHED
+                    : JobLaunchTicket.State.QUEUED;
+            return new JobLaunchTicket(ticketId, jobName, priority, state, executionId, queuedAt, launchedAt,
+                    failure == null ? null : failure.getMessage());
+        }
+    }
+}
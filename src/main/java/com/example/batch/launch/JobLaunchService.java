@@ -0,0 +1,65 @@
+package com.example.batch.launch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.NoSuchJobException;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Job 실행 요청을 {@link JobLaunchScheduler} 에 접수하고 접수증을 바로 반환하는 서비스
+ * Job 은 요청 스레드가 아닌 별도 스레드에서 실행되며, 실행 상태는 {@link #getStatus(long)},
+ * 진행 상황은 {@link JobProgressPublisher} 의 SSE 스트림으로 확인함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobLaunchService {
+
+    private final JobLaunchScheduler jobLaunchScheduler;
+
+    private final JobExplorer jobExplorer;
+
+    private final JobRegistry jobRegistry;
+
+    /**
+     * 등록된 Job 이름 (정렬)
+     */
+    public List<String> getJobNames() {
+        return jobRegistry.getJobNames().stream().sorted().toList();
+    }
+
+    /**
+     * 이름으로 Job 을 찾아 request 의 실행 파라미터와 우선순위로 실행을 접수하고 접수증을 반환
+     * 동시 실행 한도에 여유가 있으면 바로 실행을 시작하고, 없으면 대기열에서 차례를 기다림
+     * @throws NoSuchJobException 등록되지 않은 Job 이름인 경우
+     * @throws IllegalArgumentException 실행 파라미터가 범위를 벗어난 경우
+     * @throws java.util.concurrent.RejectedExecutionException 대기열이 가득 찬 경우
+     * @throws JobExecutionException 바로 시작하려 했지만 이미 실행 중이거나 완료된 JobInstance 등으로 시작할 수 없는 경우
+     */
+    public JobLaunchTicket launch(String jobName, JobLaunchRequest request) throws JobExecutionException {
+        request.validate();
+        Job job = jobRegistry.getJob(jobName);
+        JobLaunchTicket ticket = jobLaunchScheduler.submit(job, request.toJobParameters(), request.priorityOrDefault());
+        log.info("Job launch requested: {} (ticket={}, state={})", jobName, ticket.ticketId(), ticket.state());
+        return ticket;
+    }
+
+    public Optional<JobLaunchTicket> getTicket(long ticketId) {
+        return jobLaunchScheduler.getTicket(ticketId);
+    }
+
+    public List<JobLaunchTicket> getQueuedTickets() {
+        return jobLaunchScheduler.getQueuedTickets();
+    }
+
+    public Optional<JobExecutionStatus> getStatus(long executionId) {
+        return Optional.ofNullable(jobExplorer.getJobExecution(executionId)).map(JobExecutionStatus::of);
+    }
+}
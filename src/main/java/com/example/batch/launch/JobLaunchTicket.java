@@ -0,0 +1,36 @@
+package com.example.batch.launch;
+
+import java.time.Instant;
+
+/**
+ * Job 실행 요청({@link JobLaunchScheduler#submit})의 접수증
+ * 대기열에 있는 동안은 QUEUED, 실행을 시작하면 LAUNCHED 와 executionId 를 가지며,
+ * 이후 진행 상황은 executionId 로 조회함
+ *
+ * @param ticketId    접수 번호 (접수 순서)
+ * @param jobName     Job 이름
+ * @param priority    우선순위 (높을수록 먼저 실행)
+ * @param state       접수 상태
+ * @param executionId Job 실행 id (실행 시작 전이면 null)
+ * @param queuedAt    접수 시각
+ * @param launchedAt  실행 시작 시각 (시작 전이면 null)
+ * @param error       실행을 시작하지 못한 이유 (FAILED 인 경우)
+ */
+public record JobLaunchTicket(long ticketId, String jobName, int priority, State state, Long executionId,
+                              Instant queuedAt, Instant launchedAt, String error) {
+
+    public enum State {
+        /**
+         * 동시 실행 한도 때문에 대기 중
+         */
+        QUEUED,
+        /**
+         * JobExecution 을 만들고 실행 스레드에 넘김
+         */
+        LAUNCHED,
+        /**
+         * 이미 실행 중이거나 완료된 JobInstance 등으로 실행을 시작하지 못함
+         */
+        FAILED
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.batch.launch;
+
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Step 시작/종료와 chunk 커밋마다 진행 상황을 {@link JobProgressPublisher} 로 전달하는 listener
+ * chunk 가 작아도 Step 별로 minInterval 에 한 번만 전달함 (Step 시작/종료는 항상 전달)
+ * 모든 Job/Step 에 같은 인스턴스가 등록되며 스레드 안전함 ({@link JobProgressListenerRegistrar})
+ */
+public class JobProgressListener implements JobExecutionListener, StepExecutionListener, ChunkListener {
+
+    private final JobProgressPublisher publisher;
+
+    private final long minIntervalNanos;
+
+    /**
+     * Step 실행 id -> 마지막으로 전달한 시각 (System.nanoTime)
+     */
+    private final Map<Long, Long> lastPublished = new ConcurrentHashMap<>();
+
+    public JobProgressListener(JobProgressPublisher publisher, Duration minInterval) {
+        this.publisher = publisher;
+        this.minIntervalNanos = minInterval.toNanos();
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        publisher.complete(jobExecution);
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        lastPublished.put(stepExecution.getId(), System.nanoTime());
+        publisher.publish(StepProgress.of(stepExecution));
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        lastPublished.remove(stepExecution.getId());
+        publisher.publish(StepProgress.of(stepExecution));
+        return null;
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        StepExecution stepExecution = context.getStepContext().getStepExecution();
+        long now = System.nanoTime();
+        Long last = lastPublished.get(stepExecution.getId());
+        if (last != null && now - last < minIntervalNanos) {
+            return;
+        }
+        lastPublished.put(stepExecution.getId(), now);
+        publisher.publish(StepProgress.of(stepExecution));
+    }
+}
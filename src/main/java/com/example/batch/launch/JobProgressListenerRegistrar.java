@@ -0,0 +1,49 @@
+package com.example.batch.launch;
+
+import org.springframework.batch.core.job.AbstractJob;
+import org.springframework.batch.core.step.AbstractStep;
+import org.springframework.batch.core.step.tasklet.TaskletStep;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.time.Duration;
+
+/**
+ * 컨텍스트의 모든 Job/Step 에 {@link JobProgressListener} 를 등록하는 BeanPostProcessor
+ * Step 정의마다 listener 를 추가하지 않아도 모든 Job 의 진행 상황을 스트리밍할 수 있음
+ * (publisher 는 BeanPostProcessor 가 먼저 만들어질 때 함께 초기화되지 않도록 처음 사용할 때 가져옴)
+ */
+public class JobProgressListenerRegistrar implements BeanPostProcessor {
+
+    private final ObjectProvider<JobProgressPublisher> publisher;
+
+    private final Duration minInterval;
+
+    private JobProgressListener listener;
+
+    public JobProgressListenerRegistrar(ObjectProvider<JobProgressPublisher> publisher, Duration minInterval) {
+        this.publisher = publisher;
+        this.minInterval = minInterval;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof AbstractJob job) {
+            job.registerJobExecutionListener(listener());
+        }
+        if (bean instanceof AbstractStep step) {
+            step.registerStepExecutionListener(listener());
+        }
+        if (bean instanceof TaskletStep step) {
+            step.registerChunkListener(listener());
+        }
+        return bean;
+    }
+
+    private synchronized JobProgressListener listener() {
+        if (listener == null) {
+            listener = new JobProgressListener(publisher.getObject(), minInterval);
+        }
+        return listener;
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.batch.launch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Job 실행별 진행 상황을 Server-Sent Events 로 전달
+ *
+ * <ul>
+ *   <li>status: 구독 직후와 Job 종료 시 {@link JobExecutionStatus}</li>
+ *   <li>progress: chunk 커밋/Step 시작/종료 시 {@link StepProgress}</li>
+ * </ul>
+ *
+ * 전송은 별도 스레드 하나에서 하므로 느린 클라이언트가 배치 스레드를 막지 않음
+ */
+@Slf4j
+@Component
+public class JobProgressPublisher implements DisposableBean {
+
+    private static final long EMITTER_TIMEOUT_MILLIS = Duration.ofHours(1).toMillis();
+
+    private final JobExplorer jobExplorer;
+
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "job-progress-sse");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public JobProgressPublisher(JobExplorer jobExplorer) {
+        this.jobExplorer = jobExplorer;
+    }
+
+    /**
+     * Job 실행의 진행 상황 스트림 (없는 실행이면 null)
+     * 현재 상태를 먼저 보내고, 이미 끝난 실행이면 바로 종료함
+     */
+    public SseEmitter subscribe(long jobExecutionId) {
+        JobExecution jobExecution = jobExplorer.getJobExecution(jobExecutionId);
+        if (jobExecution == null) {
+            return null;
+        }
+
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        // 상태를 읽기 전에 먼저 등록해야 그 사이에 끝난 Job 의 complete 를 놓치지 않음
+        emitters.computeIfAbsent(jobExecutionId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+        emitter.onCompletion(() -> remove(jobExecutionId, emitter));
+        emitter.onTimeout(() -> remove(jobExecutionId, emitter));
+        emitter.onError(e -> remove(jobExecutionId, emitter));
+
+        JobExecutionStatus status = JobExecutionStatus.of(jobExplorer.getJobExecution(jobExecutionId));
+        dispatcher.execute(() -> {
+            send(jobExecutionId, emitter, "status", status);
+            if (!status.isRunning()) {
+                emitter.complete();
+            }
+        });
+        return emitter;
+    }
+
+    public void publish(StepProgress progress) {
+        if (!emitters.containsKey(progress.jobExecutionId())) {
+            return;
+        }
+        dispatcher.execute(() -> {
+            for (SseEmitter emitter : emitters.getOrDefault(progress.jobExecutionId(), List.of())) {
+                send(progress.jobExecutionId(), emitter, "progress", progress);
+            }
+        });
+    }
+
+    /**
+     * Job 종료 상태를 보내고 해당 실행의 스트림을 모두 닫음
+     */
+    public void complete(JobExecution jobExecution) {
+        if (!emitters.containsKey(jobExecution.getId())) {
+            return;
+        }
+        JobExecutionStatus status = JobExecutionStatus.of(jobExecution);
+        dispatcher.execute(() -> {
+            List<SseEmitter> subscribers = emitters.remove(jobExecution.getId());
+            if (subscribers == null) {
+                return;
+            }
+            for (SseEmitter emitter : subscribers) {
+                send(jobExecution.getId(), emitter, "status", status);
+                emitter.complete();
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        dispatcher.shutdownNow();
+        emitters.values().forEach(subscribers -> subscribers.forEach(SseEmitter::complete));
+        emitters.clear();
+    }
+
+    private void send(long jobExecutionId, SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        }
+        catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결이 끊긴 경우
+            log.debug("Progress stream for job execution {} closed: {}", jobExecutionId, e.getMessage());
+            remove(jobExecutionId, emitter);
+        }
+    }
+
+    private void remove(long jobExecutionId, SseEmitter emitter) {
+        emitters.computeIfPresent(jobExecutionId, (id, subscribers) -> {
+            subscribers.remove(emitter);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+}
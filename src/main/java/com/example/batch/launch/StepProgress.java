@@ -0,0 +1,66 @@
+package com.example.batch.launch;
+
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Step 실행 진행 상황 (SSE progress 이벤트, 실행 상태 조회 응답)
+ *
+ * @param jobExecutionId  Job 실행 id
+ * @param stepExecutionId Step 실행 id
+ * @param stepName        Step 이름
+ * @param status          Step 상태 (BatchStatus)
+ * @param readCount       이번 실행에서 읽은 item 수 (재시작이면 이전 실행에서 읽은 item 은 제외)
+ * @param writeCount      기록한 item 수
+ * @param filterCount     프로세서가 걸러낸 item 수
+ * @param skipCount       skip 한 item 수 (read + process + write)
+ * @param commitCount     커밋한 chunk 수
+ * @param itemsPerSecond  Step 시작 이후 초당 읽은 item 수
+ * @param totalItems      전체 item 수, 알 수 없으면 null
+ * @param etaSeconds      남은 예상 시간(초), 전체 item 수를 알 수 없으면 null
+ *                        (재시작이면 이전 실행에서 읽은 item 수({@link #READ_OFFSET_KEY})도 읽은 것으로 계산)
+ */
+public record StepProgress(long jobExecutionId, long stepExecutionId, String stepName, String status,
+                           long readCount, long writeCount, long filterCount, long skipCount, long commitCount,
+                           double itemsPerSecond, Long totalItems, Long etaSeconds) {
+
+    /**
+     * Step 의 전체 item 수를 ExecutionContext 에 기록하는 키 (ETA 계산용)
+     * {@link TotalItemsListener} 를 등록한 Step 에서만 기록되며, 없으면 ETA 를 계산하지 않음
+     */
+    public static final String TOTAL_ITEMS_KEY = "progress.totalItems";
+
+    /**
+     * 이번 Step 실행 전(재시작 이전 실행들)에 이미 읽은 item 수를 ExecutionContext 에 기록하는 키
+     * {@link TotalItemsListener} 가 Step 시작마다 기록하며, 없으면 0
+     */
+    public static final String READ_OFFSET_KEY = "progress.readOffset";
+
+    public static StepProgress of(StepExecution stepExecution) {
+        LocalDateTime start = stepExecution.getStartTime();
+        LocalDateTime end = stepExecution.getEndTime() != null ? stepExecution.getEndTime() : LocalDateTime.now();
+        long elapsedMillis = start == null ? 0 : Math.max(0, Duration.between(start, end).toMillis());
+
+        long readCount = stepExecution.getReadCount();
+        double itemsPerSecond = elapsedMillis > 0 ? readCount * 1000.0 / elapsedMillis : 0;
+
+        ExecutionContext context = stepExecution.getExecutionContext();
+        Long totalItems = totalItems(context);
+        Long etaSeconds = null;
+        if (totalItems != null && itemsPerSecond > 0) {
+            long readOffset = context.containsKey(READ_OFFSET_KEY) ? context.getLong(READ_OFFSET_KEY) : 0;
+            etaSeconds = Math.round(Math.max(0, totalItems - readOffset - readCount) / itemsPerSecond);
+        }
+
+        return new StepProgress(stepExecution.getJobExecutionId(), stepExecution.getId(), stepExecution.getStepName(),
+                stepExecution.getStatus().name(), readCount, stepExecution.getWriteCount(), stepExecution.getFilterCount(),
+                stepExecution.getSkipCount(), stepExecution.getCommitCount(), itemsPerSecond, totalItems, etaSeconds);
+    }
+
+    private static Long totalItems(ExecutionContext context) {
+        return context.containsKey(TOTAL_ITEMS_KEY) ? context.getLong(TOTAL_ITEMS_KEY) : null;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.batch.launch;
+
+import com.example.batch.partition.ColumnRangePartitioner;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Step 시작 시 읽을 전체 item 수를 세어 ExecutionContext 의 {@link StepProgress#TOTAL_ITEMS_KEY} 에 기록하는 listener
+ * {@link StepProgress} 가 이 값으로 ETA 를 계산함 (재시작이면 처음 실행에서 센 값을 그대로 사용)
+ * 세는 도중 실패해도 Step 은 계속 실행되며 ETA 만 제공되지 않음
+ *
+ * 재시작이면 리더가 이전 실행에서 커밋한 item 수({@code <리더 이름>.read.count})를 {@link StepProgress#READ_OFFSET_KEY} 에 기록함
+ * 재시작한 Step 의 readCount 는 0 부터 다시 세므로, StepProgress 는 이 값을 더해 남은 item 수를 계산함
+ * (상태를 저장하지 않는 리더는 처음부터 다시 읽으므로 0)
+ */
+@Slf4j
+public class TotalItemsListener implements StepExecutionListener {
+
+    /**
+     * 리더가 재시작 위치(읽은 item 수)를 저장하는 ExecutionContext 키의 접미사
+     * (AbstractItemCountingItemStreamItemReader, PrefetchingItemStreamReader)
+     */
+    private static final String READ_COUNT_SUFFIX = ".read.count";
+
+    /**
+     * Step 이 읽을 item 수를 세는 함수
+     */
+    @FunctionalInterface
+    public interface Counter {
+        long count(StepExecution stepExecution) throws Exception;
+    }
+
+    private final Counter counter;
+
+    public TotalItemsListener(Counter counter) {
+        this.counter = counter;
+    }
+
+    /**
+     * customer 테이블에서 리더와 같은 id 범위의 row 수를 셈
+     * 범위는 파티션 컨텍스트(minValue ~ maxValue), 없으면 Job 파라미터(minId ~ maxId), 둘 다 없으면 전체
+     */
+    public static TotalItemsListener customerIdRange(DataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        return new TotalItemsListener(stepExecution -> {
+            ExecutionContext context = stepExecution.getExecutionContext();
+            JobParameters jobParameters = stepExecution.getJobParameters();
+            long minId;
+            long maxId;
+            if (context.containsKey(ColumnRangePartitioner.MIN_VALUE_KEY) && context.containsKey(ColumnRangePartitioner.MAX_VALUE_KEY)) {
+                minId = context.getLong(ColumnRangePartitioner.MIN_VALUE_KEY);
+                maxId = context.getLong(ColumnRangePartitioner.MAX_VALUE_KEY);
+            } else {
+                Long min = jobParameters.getLong("minId");
+                Long max = jobParameters.getLong("maxId");
+                minId = min != null ? min : 0L;
+                maxId = max != null ? max : Long.MAX_VALUE;
+            }
+            Long count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM customer WHERE id BETWEEN ? AND ?", Long.class, minId, maxId);
+            return count != null ? count : 0;
+        });
+    }
+
+    /**
+     * 파일의 라인 수에서 건너뛸 헤더 라인 수를 뺀 값 (파일이 없으면 0)
+     */
+    public static TotalItemsListener lineCount(Resource resource, int linesToSkip) {
+        return new TotalItemsListener(stepExecution -> {
+            if (!resource.exists()) {
+                return 0;
+            }
+            long lines = 0;
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+                while (reader.readLine() != null) {
+                    lines++;
+                }
+            }
+            return Math.max(0, lines - linesToSkip);
+        });
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        ExecutionContext context = stepExecution.getExecutionContext();
+        context.putLong(StepProgress.READ_OFFSET_KEY, restartReadCount(context));
+        if (context.containsKey(StepProgress.TOTAL_ITEMS_KEY)) {
+            return;
+        }
+        try {
+            context.putLong(StepProgress.TOTAL_ITEMS_KEY, counter.count(stepExecution));
+        } catch (Exception e) {
+            log.warn("Could not count total items for {}: {}", stepExecution.getStepName(), e.getMessage());
+        }
+    }
+
+    /**
+     * 이전 실행에서 커밋된 리더의 item 수 (처음 실행이면 0)
+     */
+    private static long restartReadCount(ExecutionContext context) {
+        long readCount = 0;
+        for (Map.Entry<String, Object> entry : context.entrySet()) {
+            if (entry.getKey().endsWith(READ_COUNT_SUFFIX) && entry.getValue() instanceof Number count) {
+                readCount = Math.max(readCount, count.longValue());
+            }
+        }
+        return readCount;
+    }
+}
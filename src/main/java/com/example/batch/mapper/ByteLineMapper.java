@@ -0,0 +1,20 @@
+package com.example.batch.mapper;
+
+/**
+ * 라인을 String 으로 디코딩하지 않고 바이트 배열에서 바로 item 으로 변환하는 매퍼
+ * MemoryMappedFlatFileItemReader 는 LineMapper 가 이 인터페이스도 구현하면 이 경로를 사용함
+ *
+ * @param <T> type of items to map
+ */
+public interface ByteLineMapper<T> {
+
+  /**
+   * @param bytes 라인이 담긴 버퍼 (개행 문자 제외, UTF-8)
+   * @param offset 라인 시작 위치
+   * @param length 라인 길이
+   * @param lineNumber 라인 번호
+   * @return 변환된 item
+   * @throws Exception 파싱 실패 시
+   */
+  T mapLine(byte[] bytes, int offset, int length, int lineNumber) throws Exception;
+}
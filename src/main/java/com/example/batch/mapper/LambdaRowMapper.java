@@ -0,0 +1,220 @@
+package com.example.batch.mapper;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import org.springframework.beans.BeanUtils;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 리플렉션 없이 컬럼 인덱스로 값을 읽어 setter 를 직접 호출하는 RowMapper
+ * BeanPropertyRowMapper 는 매 row 마다 컬럼 이름으로 프로퍼티를 찾고 BeanWrapper 로 타입 변환/setter 호출을 하지만,
+ * 이 매퍼는 {@link LambdaMetafactory} 로 생성자({@link Supplier})와 setter({@link BiConsumer})를 한 번만 만들어 두고
+ * ResultSet 형태(컬럼 구성)별로 "컬럼 인덱스 -> 값 읽기 -> setter" 실행 계획을 캐시함
+ * 같은 ResultSet 이 이어서 들어오면 메타데이터 조회도 생략하므로 row 당 비용이 직접 작성한 람다 RowMapper 수준이 됨
+ *
+ * 컬럼 매칭 규칙은 BeanPropertyRowMapper 와 같음 (first_name / firstName 모두 firstName 프로퍼티에 매핑)
+ * 매핑되지 않는 컬럼은 무시하고, primitive 프로퍼티에 null 이 오면 값을 설정하지 않음
+ * 불변 계획만 공유하고 마지막 ResultSet 은 스레드별로 기억하므로 여러 리더/스레드에서 같은 인스턴스를 사용해도 안전함
+ *
+ * @param <T> 매핑 대상 타입 (public 기본 생성자와 setter 필요)
+ */
+public final class LambdaRowMapper<T> implements RowMapper<T> {
+
+  private static final Map<Class<?>, LambdaRowMapper<?>> MAPPERS = new ConcurrentHashMap<>();
+
+  private final Class<T> mappedClass;
+
+  private final Supplier<T> constructor;
+
+  /**
+   * 정규화된 프로퍼티 이름(소문자, 언더스코어 제거) -> 프로퍼티
+   */
+  private final Map<String, Property<T>> properties;
+
+  /**
+   * 컬럼 라벨 목록 -> 실행 계획
+   */
+  private final Map<List<String>, Binding<T>[]> plans = new ConcurrentHashMap<>();
+
+  /**
+   * 스레드별로 마지막으로 매핑한 ResultSet 과 그 계획 (같은 ResultSet 의 다음 row 는 메타데이터를 다시 읽지 않음)
+   * 파티션처럼 여러 스레드가 번갈아 매핑해도 서로의 계획을 덮어쓰지 않고,
+   * ResultSet 은 약한 참조로 가지므로 리더가 닫은 뒤에도 붙잡아 두지 않음
+   */
+  private final ThreadLocal<LastPlan<T>> lastPlan = new ThreadLocal<>();
+
+  private LambdaRowMapper(Class<T> mappedClass) {
+    this.mappedClass = mappedClass;
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(mappedClass, MethodHandles.lookup());
+      this.constructor = constructor(lookup, mappedClass);
+      this.properties = properties(lookup, mappedClass);
+    } catch (Throwable e) {
+      throw new IllegalStateException("Failed to generate row mapper for " + mappedClass.getName(), e);
+    }
+  }
+
+  /**
+   * 타입별 매퍼를 반환 (타입당 한 번만 생성)
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> LambdaRowMapper<T> of(Class<T> mappedClass) {
+    return (LambdaRowMapper<T>) MAPPERS.computeIfAbsent(mappedClass, LambdaRowMapper::new);
+  }
+
+  @Override
+  public T mapRow(ResultSet rs, int rowNum) throws SQLException {
+    Binding<T>[] bindings = plan(rs);
+    T item = constructor.get();
+    for (Binding<T> binding : bindings) {
+      Object value = binding.reader.read(rs, binding.index);
+      if (value != null || !binding.primitive) {
+        binding.setter.accept(item, value);
+      }
+    }
+    return item;
+  }
+
+  private Binding<T>[] plan(ResultSet rs) throws SQLException {
+    LastPlan<T> last = lastPlan.get();
+    if (last != null && last.resultSet.get() == rs) {
+      return last.bindings;
+    }
+
+    ResultSetMetaData metaData = rs.getMetaData();
+    int columnCount = metaData.getColumnCount();
+    List<String> columns = new ArrayList<>(columnCount);
+    for (int i = 1; i <= columnCount; i++) {
+      columns.add(JdbcUtils.lookupColumnName(metaData, i));
+    }
+
+    Binding<T>[] bindings = plans.computeIfAbsent(columns, this::createPlan);
+    lastPlan.set(new LastPlan<>(new WeakReference<>(rs), bindings));
+    return bindings;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Binding<T>[] createPlan(List<String> columns) {
+    List<Binding<T>> bindings = new ArrayList<>(columns.size());
+    for (int i = 0; i < columns.size(); i++) {
+      Property<T> property = properties.get(normalize(columns.get(i)));
+      if (property != null) {
+        bindings.add(new Binding<>(i + 1, property.reader, property.setter, property.primitive));
+      }
+    }
+    return bindings.toArray(new Binding[0]);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> Supplier<T> constructor(MethodHandles.Lookup lookup, Class<T> type) throws Throwable {
+    MethodHandle handle = lookup.findConstructor(type, MethodType.methodType(void.class));
+    CallSite site = LambdaMetafactory.metafactory(lookup, "get",
+        MethodType.methodType(Supplier.class),
+        MethodType.methodType(Object.class),
+        handle,
+        MethodType.methodType(type));
+    return (Supplier<T>) site.getTarget().invoke();
+  }
+
+  private static <T> Map<String, Property<T>> properties(MethodHandles.Lookup lookup, Class<T> type) throws Throwable {
+    Map<String, Property<T>> properties = new HashMap<>();
+    for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(type)) {
+      Method writeMethod = descriptor.getWriteMethod();
+      if (writeMethod == null) {
+        continue;
+      }
+      Class<?> propertyType = writeMethod.getParameterTypes()[0];
+      properties.put(normalize(descriptor.getName()), new Property<>(
+          columnReader(propertyType), setter(lookup, type, writeMethod), propertyType.isPrimitive()));
+    }
+    return properties;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> BiConsumer<T, Object> setter(MethodHandles.Lookup lookup, Class<T> type, Method writeMethod) throws Throwable {
+    MethodHandle handle = lookup.unreflect(writeMethod);
+    Class<?> parameterType = ClassUtils.resolvePrimitiveIfNecessary(writeMethod.getParameterTypes()[0]);
+    CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+        MethodType.methodType(BiConsumer.class),
+        MethodType.methodType(void.class, Object.class, Object.class),
+        handle,
+        MethodType.methodType(void.class, type, parameterType));
+    return (BiConsumer<T, Object>) site.getTarget().invoke();
+  }
+
+  /**
+   * 프로퍼티 타입에 맞는 JDBC getter 를 미리 골라 둠 (row 마다 타입 판별/변환을 하지 않음)
+   */
+  private static ColumnReader columnReader(Class<?> type) {
+    if (type == String.class) {
+      return ResultSet::getString;
+    }
+    if (type == Long.class || type == long.class) {
+      return (rs, index) -> {
+        long value = rs.getLong(index);
+        return rs.wasNull() ? null : value;
+      };
+    }
+    if (type == Integer.class || type == int.class) {
+      return (rs, index) -> {
+        int value = rs.getInt(index);
+        return rs.wasNull() ? null : value;
+      };
+    }
+    if (type == BigDecimal.class) {
+      return ResultSet::getBigDecimal;
+    }
+    if (type == LocalDateTime.class) {
+      return (rs, index) -> rs.getObject(index, LocalDateTime.class);
+    }
+    if (type == LocalDate.class) {
+      return (rs, index) -> rs.getObject(index, LocalDate.class);
+    }
+    return (rs, index) -> JdbcUtils.getResultSetValue(rs, index, type);
+  }
+
+  private static String normalize(String name) {
+    return name.replace("_", "").toLowerCase(Locale.ROOT);
+  }
+
+  @Override
+  public String toString() {
+    return "LambdaRowMapper[" + mappedClass.getName() + "]";
+  }
+
+  @FunctionalInterface
+  private interface ColumnReader {
+    Object read(ResultSet rs, int index) throws SQLException;
+  }
+
+  private record Property<T>(ColumnReader reader, BiConsumer<T, Object> setter, boolean primitive) {
+  }
+
+  private record Binding<T>(int index, ColumnReader reader, BiConsumer<T, Object> setter, boolean primitive) {
+  }
+
+  private record LastPlan<T>(WeakReference<ResultSet> resultSet, Binding<T>[] bindings) {
+  }
+}
@@ -0,0 +1,344 @@
+package com.example.batch.mapper;
+
+import com.example.batch.entity.Product;
+import com.example.batch.price.FixedPointPrice;
+import org.springframework.batch.item.file.LineMapper;
+import org.springframework.batch.item.file.transform.IncorrectTokenCountException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * "name,price,category,stock" 형식의 CSV 라인을 Product 로 변환하는 전용 LineMapper
+ * DelimitedLineTokenizer + BeanWrapperFieldSetMapper 조합과 달리
+ * 토큰 String 배열이나 FieldSet 을 만들지 않고, 리플렉션 없이 구분자 위치를 찾아 필드를 바로 채움
+ * 숫자 필드(price, stock)는 문자/바이트에서 직접 파싱하므로 중간 String 도 만들지 않음
+ * 따옴표로 감싼 필드는 지원하지 않음 (FileDataInitializer 가 생성하는 파일 형식 기준)
+ * fixedPointPrice 를 켜면 price 를 BigDecimal 대신 {@link Product#setPriceMinor(long)} 최소 단위 long 으로 채움
+ * (소수 자릿수가 2 를 넘거나 long 범위를 넘는 값은 정확히 표현할 수 없으므로 BigDecimal price 로 채움)
+ * 상태를 갖지 않으므로 여러 리더/스레드에서 공유해도 안전함
+ */
+public class ProductLineMapper implements LineMapper<Product>, ByteLineMapper<Product> {
+
+  private static final char DELIMITER = ',';
+
+  private static final int FIELD_COUNT = 4;
+
+  /**
+   * long 으로 오버플로 없이 누적할 수 있는 최대 자릿수
+   */
+  private static final int MAX_LONG_DIGITS = 18;
+
+  /**
+   * 최소 단위 long 으로 정확히 표현할 수 없는 가격 (BigDecimal 로 파싱)
+   */
+  private static final long NOT_FIXED_POINT = Long.MIN_VALUE + 1;
+
+  private final boolean fixedPointPrice;
+
+  public ProductLineMapper() {
+    this(false);
+  }
+
+  /**
+   * @param fixedPointPrice true 이면 price 를 최소 단위 long(priceMinor)으로 파싱
+   */
+  public ProductLineMapper(boolean fixedPointPrice) {
+    this.fixedPointPrice = fixedPointPrice;
+  }
+
+  @Override
+  public Product mapLine(String line, int lineNumber) throws Exception {
+    int nameEnd = line.indexOf(DELIMITER);
+    int priceEnd = nameEnd < 0 ? -1 : line.indexOf(DELIMITER, nameEnd + 1);
+    int categoryEnd = priceEnd < 0 ? -1 : line.indexOf(DELIMITER, priceEnd + 1);
+    if (categoryEnd < 0 || line.indexOf(DELIMITER, categoryEnd + 1) >= 0) {
+      throw new IncorrectTokenCountException(FIELD_COUNT, countTokens(line), line);
+    }
+
+    Product product = new Product();
+    product.setName(line.substring(0, nameEnd));
+    long priceMinor = fixedPointPrice ? parseMinor(line, nameEnd + 1, priceEnd) : NOT_FIXED_POINT;
+    if (priceMinor == NOT_FIXED_POINT) {
+      product.setPrice(parseDecimal(line, nameEnd + 1, priceEnd));
+    }
+    else {
+      product.setPriceMinor(priceMinor);
+    }
+    product.setCategory(line.substring(priceEnd + 1, categoryEnd));
+    product.setStock(parseInteger(line, categoryEnd + 1, line.length()));
+    return product;
+  }
+
+  @Override
+  public Product mapLine(byte[] bytes, int offset, int length, int lineNumber) throws Exception {
+    int end = offset + length;
+    int nameEnd = indexOf(bytes, offset, end);
+    int priceEnd = nameEnd < 0 ? -1 : indexOf(bytes, nameEnd + 1, end);
+    int categoryEnd = priceEnd < 0 ? -1 : indexOf(bytes, priceEnd + 1, end);
+    if (categoryEnd < 0 || indexOf(bytes, categoryEnd + 1, end) >= 0) {
+      String line = new String(bytes, offset, length, StandardCharsets.UTF_8);
+      throw new IncorrectTokenCountException(FIELD_COUNT, countTokens(line), line);
+    }
+
+    Product product = new Product();
+    product.setName(new String(bytes, offset, nameEnd - offset, StandardCharsets.UTF_8));
+    long priceMinor = fixedPointPrice ? parseMinor(bytes, nameEnd + 1, priceEnd) : NOT_FIXED_POINT;
+    if (priceMinor == NOT_FIXED_POINT) {
+      product.setPrice(parseDecimal(bytes, nameEnd + 1, priceEnd));
+    }
+    else {
+      product.setPriceMinor(priceMinor);
+    }
+    product.setCategory(new String(bytes, priceEnd + 1, categoryEnd - priceEnd - 1, StandardCharsets.UTF_8));
+    product.setStock(parseInteger(bytes, categoryEnd + 1, end));
+    return product;
+  }
+
+  // ========== CharSequence 파싱 ==========
+
+  private static BigDecimal parseDecimal(CharSequence s, int start, int end) {
+    while (start < end && s.charAt(start) == ' ') start++;
+    while (end > start && s.charAt(end - 1) == ' ') end--;
+    if (start == end) {
+      return null;
+    }
+
+    int i = start;
+    boolean negative = s.charAt(i) == '-';
+    if (negative || s.charAt(i) == '+') i++;
+
+    long unscaled = 0;
+    int digits = 0;
+    int scale = -1;
+    for (; i < end; i++) {
+      char c = s.charAt(i);
+      if (c == '.' && scale < 0) {
+        scale = 0;
+        continue;
+      }
+      if (c < '0' || c > '9') {
+        throw new NumberFormatException("Invalid decimal: " + s.subSequence(start, end));
+      }
+      if (++digits > MAX_LONG_DIGITS) {
+        return new BigDecimal(s.subSequence(start, end).toString());
+      }
+      unscaled = unscaled * 10 + (c - '0');
+      if (scale >= 0) scale++;
+    }
+    if (digits == 0) {
+      throw new NumberFormatException("Invalid decimal: " + s.subSequence(start, end));
+    }
+    return BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(scale, 0));
+  }
+
+  /**
+   * scale 2 최소 단위 long 으로 파싱 (빈 값이면 NO_PRICE, 정확히 표현할 수 없으면 NOT_FIXED_POINT)
+   */
+  private static long parseMinor(CharSequence s, int start, int end) {
+    while (start < end && s.charAt(start) == ' ') start++;
+    while (end > start && s.charAt(end - 1) == ' ') end--;
+    if (start == end) {
+      return FixedPointPrice.NO_PRICE;
+    }
+
+    int i = start;
+    boolean negative = s.charAt(i) == '-';
+    if (negative || s.charAt(i) == '+') i++;
+
+    long unscaled = 0;
+    int digits = 0;
+    int scale = -1;
+    for (; i < end; i++) {
+      char c = s.charAt(i);
+      if (c == '.' && scale < 0) {
+        scale = 0;
+        continue;
+      }
+      if (c < '0' || c > '9') {
+        throw new NumberFormatException("Invalid decimal: " + s.subSequence(start, end));
+      }
+      if (++digits > MAX_LONG_DIGITS) {
+        return NOT_FIXED_POINT;
+      }
+      unscaled = unscaled * 10 + (c - '0');
+      if (scale >= 0) scale++;
+    }
+    if (digits == 0) {
+      throw new NumberFormatException("Invalid decimal: " + s.subSequence(start, end));
+    }
+    return toMinor(negative ? -unscaled : unscaled, digits, Math.max(scale, 0));
+  }
+
+  private static Integer parseInteger(CharSequence s, int start, int end) {
+    while (start < end && s.charAt(start) == ' ') start++;
+    while (end > start && s.charAt(end - 1) == ' ') end--;
+    if (start == end) {
+      return null;
+    }
+
+    int i = start;
+    boolean negative = s.charAt(i) == '-';
+    if (negative || s.charAt(i) == '+') i++;
+    if (i == end) {
+      throw new NumberFormatException("Invalid integer: " + s.subSequence(start, end));
+    }
+
+    long value = 0;
+    for (; i < end; i++) {
+      char c = s.charAt(i);
+      if (c < '0' || c > '9') {
+        throw new NumberFormatException("Invalid integer: " + s.subSequence(start, end));
+      }
+      value = value * 10 + (c - '0');
+      if (value > (long) Integer.MAX_VALUE + 1) {
+        throw new NumberFormatException("Integer out of range: " + s.subSequence(start, end));
+      }
+    }
+    value = negative ? -value : value;
+    if (value > Integer.MAX_VALUE) {
+      throw new NumberFormatException("Integer out of range: " + s.subSequence(start, end));
+    }
+    return (int) value;
+  }
+
+  // ========== byte[] 파싱 ==========
+
+  private static BigDecimal parseDecimal(byte[] b, int start, int end) {
+    while (start < end && b[start] == ' ') start++;
+    while (end > start && b[end - 1] == ' ') end--;
+    if (start == end) {
+      return null;
+    }
+
+    int i = start;
+    boolean negative = b[i] == '-';
+    if (negative || b[i] == '+') i++;
+
+    long unscaled = 0;
+    int digits = 0;
+    int scale = -1;
+    for (; i < end; i++) {
+      byte c = b[i];
+      if (c == '.' && scale < 0) {
+        scale = 0;
+        continue;
+      }
+      if (c < '0' || c > '9') {
+        throw new NumberFormatException("Invalid decimal: " + ascii(b, start, end));
+      }
+      if (++digits > MAX_LONG_DIGITS) {
+        return new BigDecimal(ascii(b, start, end));
+      }
+      unscaled = unscaled * 10 + (c - '0');
+      if (scale >= 0) scale++;
+    }
+    if (digits == 0) {
+      throw new NumberFormatException("Invalid decimal: " + ascii(b, start, end));
+    }
+    return BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(scale, 0));
+  }
+
+  private static long parseMinor(byte[] b, int start, int end) {
+    while (start < end && b[start] == ' ') start++;
+    while (end > start && b[end - 1] == ' ') end--;
+    if (start == end) {
+      return FixedPointPrice.NO_PRICE;
+    }
+
+    int i = start;
+    boolean negative = b[i] == '-';
+    if (negative || b[i] == '+') i++;
+
+    long unscaled = 0;
+    int digits = 0;
+    int scale = -1;
+    for (; i < end; i++) {
+      byte c = b[i];
+      if (c == '.' && scale < 0) {
+        scale = 0;
+        continue;
+      }
+      if (c < '0' || c > '9') {
+        throw new NumberFormatException("Invalid decimal: " + ascii(b, start, end));
+      }
+      if (++digits > MAX_LONG_DIGITS) {
+        return NOT_FIXED_POINT;
+      }
+      unscaled = unscaled * 10 + (c - '0');
+      if (scale >= 0) scale++;
+    }
+    if (digits == 0) {
+      throw new NumberFormatException("Invalid decimal: " + ascii(b, start, end));
+    }
+    return toMinor(negative ? -unscaled : unscaled, digits, Math.max(scale, 0));
+  }
+
+  private static Integer parseInteger(byte[] b, int start, int end) {
+    while (start < end && b[start] == ' ') start++;
+    while (end > start && b[end - 1] == ' ') end--;
+    if (start == end) {
+      return null;
+    }
+
+    int i = start;
+    boolean negative = b[i] == '-';
+    if (negative || b[i] == '+') i++;
+    if (i == end) {
+      throw new NumberFormatException("Invalid integer: " + ascii(b, start, end));
+    }
+
+    long value = 0;
+    for (; i < end; i++) {
+      byte c = b[i];
+      if (c < '0' || c > '9') {
+        throw new NumberFormatException("Invalid integer: " + ascii(b, start, end));
+      }
+      value = value * 10 + (c - '0');
+      if (value > (long) Integer.MAX_VALUE + 1) {
+        throw new NumberFormatException("Integer out of range: " + ascii(b, start, end));
+      }
+    }
+    value = negative ? -value : value;
+    if (value > Integer.MAX_VALUE) {
+      throw new NumberFormatException("Integer out of range: " + ascii(b, start, end));
+    }
+    return (int) value;
+  }
+
+  // ========== 공통 ==========
+
+  /**
+   * unscaled / 10^scale 값을 scale 2 최소 단위로 변환 (scale 이 2 를 넘거나 자릿수가 long 범위를 넘으면 NOT_FIXED_POINT)
+   */
+  private static long toMinor(long unscaled, int digits, int scale) {
+    if (scale > FixedPointPrice.SCALE || digits + FixedPointPrice.SCALE - scale > MAX_LONG_DIGITS) {
+      return NOT_FIXED_POINT;
+    }
+    for (int i = scale; i < FixedPointPrice.SCALE; i++) {
+      unscaled *= 10;
+    }
+    return unscaled;
+  }
+
+  private static int indexOf(byte[] b, int from, int end) {
+    for (int i = from; i < end; i++) {
+      if (b[i] == DELIMITER) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static String ascii(byte[] b, int start, int end) {
+    return new String(b, start, end - start, StandardCharsets.US_ASCII);
+  }
+
+  private static int countTokens(String line) {
+    int count = 1;
+    for (int i = line.indexOf(DELIMITER); i >= 0; i = line.indexOf(DELIMITER, i + 1)) {
+      count++;
+    }
+    return count;
+  }
+}
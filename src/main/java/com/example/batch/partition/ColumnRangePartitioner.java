@@ -0,0 +1,68 @@
+package com.example.batch.partition;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 숫자 컬럼(예: customer.id)의 MIN ~ MAX 구간을 gridSize 개의 연속된 범위로 나누는 Partitioner
+ * 각 파티션의 ExecutionContext 에 {@link #MIN_VALUE_KEY}, {@link #MAX_VALUE_KEY} 를 담아
+ * 워커 Step 의 Step 스코프 리더가 자기 범위만 읽도록 함
+ * 파티션 이름(partition0, partition1 ...)은 항상 같은 순서로 만들어지므로
+ * 재시작 시 Job Repository 에 저장된 파티션별 진행 상태를 그대로 이어받음
+ */
+public class ColumnRangePartitioner implements Partitioner {
+
+  public static final String MIN_VALUE_KEY = "minValue";
+
+  public static final String MAX_VALUE_KEY = "maxValue";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final String table;
+
+  private final String column;
+
+  public ColumnRangePartitioner(DataSource dataSource, String table, String column) {
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.table = table;
+    this.column = column;
+  }
+
+  @Override
+  public Map<String, ExecutionContext> partition(int gridSize) {
+    Long min = jdbcTemplate.queryForObject("SELECT MIN(" + column + ") FROM " + table, Long.class);
+    Long max = jdbcTemplate.queryForObject("SELECT MAX(" + column + ") FROM " + table, Long.class);
+
+    Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+    if (min == null || max == null) {
+      // 빈 테이블: 아무것도 읽지 않는 파티션 하나만 생성
+      partitions.put("partition0", range(1, 0));
+      return partitions;
+    }
+
+    long span = max - min + 1;
+    int count = (int) Math.max(1, Math.min(gridSize, span));
+    long size = span / count;
+    long remainder = span % count;
+
+    long start = min;
+    for (int i = 0; i < count; i++) {
+      long end = start + size - 1 + (i < remainder ? 1 : 0);
+      partitions.put("partition" + i, range(start, end));
+      start = end + 1;
+    }
+    return partitions;
+  }
+
+  private ExecutionContext range(long minValue, long maxValue) {
+    ExecutionContext context = new ExecutionContext();
+    context.putLong(MIN_VALUE_KEY, minValue);
+    context.putLong(MAX_VALUE_KEY, maxValue);
+    return context;
+  }
+}
@@ -0,0 +1,92 @@
+package com.example.batch.partition;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 파일을 gridSize 개의 바이트 구간으로 나누는 Partitioner
+ * 구간 경계는 항상 라인 시작 위치로 맞춰지므로 한 라인이 두 파티션에 걸치지 않음
+ * 각 파티션의 ExecutionContext 에 {@link #START_OFFSET_KEY}, {@link #END_OFFSET_KEY} 를 담아
+ * 워커 Step 의 MemoryMappedFlatFileItemReader 가 자기 구간만 읽도록 함
+ */
+public class FileRangePartitioner implements Partitioner {
+
+  public static final String START_OFFSET_KEY = "startOffset";
+
+  public static final String END_OFFSET_KEY = "endOffset";
+
+  private static final int SCAN_BUFFER_SIZE = 8 * 1024;
+
+  private final Resource resource;
+
+  public FileRangePartitioner(Resource resource) {
+    this.resource = resource;
+  }
+
+  @Override
+  public Map<String, ExecutionContext> partition(int gridSize) {
+    Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+    try (FileChannel channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ)) {
+      long size = channel.size();
+      long start = 0;
+      for (int i = 1; i <= gridSize && start < size; i++) {
+        long end = (i == gridSize) ? size : alignToLineStart(channel, size * i / gridSize, size);
+        if (end <= start) {
+          continue;
+        }
+        partitions.put("partition" + partitions.size(), range(start, end));
+        start = end;
+      }
+    }
+    catch (IOException e) {
+      throw new ItemStreamException("Failed to partition resource: " + resource, e);
+    }
+
+    if (partitions.isEmpty()) {
+      // 빈 파일: 아무것도 읽지 않는 파티션 하나만 생성
+      partitions.put("partition0", range(0, 0));
+    }
+    return partitions;
+  }
+
+  /**
+   * offset 이 라인 시작이면 그대로, 아니면 다음 개행 문자 바로 뒤 위치를 반환
+   */
+  private long alignToLineStart(FileChannel channel, long offset, long size) throws IOException {
+    if (offset == 0) {
+      return 0;
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+    long position = offset - 1;
+    while (position < size) {
+      buffer.clear();
+      int read = channel.read(buffer, position);
+      if (read <= 0) {
+        break;
+      }
+      for (int i = 0; i < read; i++) {
+        if (buffer.get(i) == '\n') {
+          return position + i + 1;
+        }
+      }
+      position += read;
+    }
+    return size;
+  }
+
+  private ExecutionContext range(long startOffset, long endOffset) {
+    ExecutionContext context = new ExecutionContext();
+    context.putLong(START_OFFSET_KEY, startOffset);
+    context.putLong(END_OFFSET_KEY, endOffset);
+    return context;
+  }
+}
@@ -0,0 +1,139 @@
+package com.example.batch.partition;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 리소스 패턴에 매칭되는 파일들을 파티션으로 나누는 Partitioner
+ * 파일 수가 gridSize 이하면 파일 하나당 파티션 하나, 더 많으면 전체 크기가 비슷하도록 gridSize 개의 그룹으로 묶음
+ * 각 파티션의 ExecutionContext 에 담당 파일 수({@link #RESOURCE_COUNT_KEY})와 파일마다 URI({@link #RESOURCE_KEY_PREFIX} + 인덱스)를 담아
+ * 워커 Step 의 MultiResourceItemReader 가 자기 파일만 읽도록 함 ({@link #resources(ExecutionContext, String)})
+ *
+ * 파일은 이름순으로 정렬한 뒤 나누므로 같은 입력이면 항상 같은 파티션 구성이 만들어지고,
+ * 재시작 시에는 Job Repository 에 저장된 파티션별 컨텍스트를 그대로 사용하므로 완료된 파티션(파일)은 다시 읽지 않음
+ */
+public class ResourceGroupPartitioner implements Partitioner {
+
+  public static final String RESOURCE_COUNT_KEY = "resources.count";
+
+  public static final String RESOURCE_KEY_PREFIX = "resources.";
+
+  private static final ResourcePatternResolver RESOLVER = new PathMatchingResourcePatternResolver();
+
+  private final String locationPattern;
+
+  public ResourceGroupPartitioner(String locationPattern) {
+    this.locationPattern = locationPattern;
+  }
+
+  @Override
+  public Map<String, ExecutionContext> partition(int gridSize) {
+    Resource[] resources = resolve(locationPattern);
+    int groupCount = Math.max(1, Math.min(gridSize, resources.length));
+
+    List<List<Resource>> groups = new ArrayList<>(groupCount);
+    long[] groupSizes = new long[groupCount];
+    for (int i = 0; i < groupCount; i++) {
+      groups.add(new ArrayList<>());
+    }
+
+    // 큰 파일부터 현재 합계가 가장 작은 그룹에 배정
+    Resource[] bySizeDesc = resources.clone();
+    Arrays.sort(bySizeDesc, Comparator.comparingLong(ResourceGroupPartitioner::contentLength).reversed()
+        .thenComparing(Resource::getFilename, Comparator.nullsFirst(Comparator.naturalOrder())));
+    for (Resource resource : bySizeDesc) {
+      int target = 0;
+      for (int i = 1; i < groupCount; i++) {
+        if (groupSizes[i] < groupSizes[target]) {
+          target = i;
+        }
+      }
+      groups.get(target).add(resource);
+      groupSizes[target] += contentLength(resource);
+    }
+
+    Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+    for (List<Resource> group : groups) {
+      group.sort(Comparator.comparing(Resource::getFilename, Comparator.nullsFirst(Comparator.naturalOrder())));
+      ExecutionContext context = new ExecutionContext();
+      context.putInt(RESOURCE_COUNT_KEY, group.size());
+      for (int i = 0; i < group.size(); i++) {
+        context.putString(RESOURCE_KEY_PREFIX + i, uri(group.get(i)));
+      }
+      partitions.put("partition" + partitions.size(), context);
+    }
+    return partitions;
+  }
+
+  /**
+   * 파티션 컨텍스트에 담긴 파일 목록을 Resource 배열로 변환
+   * URI 는 패턴으로 해석하지 않고 그대로 사용하므로 파일 이름에 ',', '*', '?', '[' 가 있어도 같은 파일을 가리킴
+   * 파티션 컨텍스트가 아니면(파일 수가 없으면) defaultLocationPattern 에 매칭되는 모든 파일을 반환
+   * @throws ItemStreamException 목록의 파일이 없는 경우 (파티션을 나눈 뒤 삭제/이동된 파일을 조용히 건너뛰지 않음)
+   */
+  public static Resource[] resources(ExecutionContext context, String defaultLocationPattern) {
+    if (context == null || !context.containsKey(RESOURCE_COUNT_KEY)) {
+      return resolve(defaultLocationPattern);
+    }
+    int count = context.getInt(RESOURCE_COUNT_KEY);
+    Resource[] resources = new Resource[count];
+    for (int i = 0; i < count; i++) {
+      String uri = context.getString(RESOURCE_KEY_PREFIX + i);
+      Resource resource = RESOLVER.getResource(uri);
+      if (!resource.exists()) {
+        throw new ItemStreamException("Partition resource does not exist: " + uri);
+      }
+      resources[i] = resource;
+    }
+    return resources;
+  }
+
+  /**
+   * 리소스 패턴에 매칭되는 파일을 이름순으로 반환
+   */
+  private static Resource[] resolve(String locationPattern) {
+    List<Resource> resources = new ArrayList<>();
+    try {
+      for (Resource resource : RESOLVER.getResources(locationPattern)) {
+        if (resource.exists()) {
+          resources.add(resource);
+        }
+      }
+    }
+    catch (IOException e) {
+      throw new ItemStreamException("Failed to resolve resources: " + locationPattern, e);
+    }
+    resources.sort(Comparator.comparing(Resource::getFilename, Comparator.nullsFirst(Comparator.naturalOrder())));
+    return resources.toArray(new Resource[0]);
+  }
+
+  private static String uri(Resource resource) {
+    try {
+      return resource.getURI().toString();
+    }
+    catch (IOException e) {
+      throw new ItemStreamException("Failed to resolve resource URI: " + resource, e);
+    }
+  }
+
+  private static long contentLength(Resource resource) {
+    try {
+      return resource.contentLength();
+    }
+    catch (IOException e) {
+      throw new ItemStreamException("Failed to read resource length: " + resource, e);
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package com.example.batch.price;
+
+import com.example.batch.entity.Product;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 가격을 scale 2 고정 소수점 long(최소 단위, 예: 1234.50 -> 123450)으로 다루기 위한 유틸리티
+ * product.price 컬럼이 DECIMAL(10, 2) 이므로 최소 단위 long 으로 모든 값을 정확히 표현할 수 있고,
+ * item 마다 BigDecimal 을 만들지 않고 읽기 -> 할인 -> 쓰기를 처리할 수 있음
+ *
+ * {@link Factor} 는 BigDecimal 배율(예: 0.9)을 정수 분자/분모로 한 번만 변환해 두고,
+ * 곱한 결과를 지정한 RoundingMode 로 scale 2 에 맞춰 반올림함
+ * HALF_UP 을 사용하면 BigDecimal 곱셈 결과를 DECIMAL(10, 2) 컬럼에 저장할 때와 같은 값이 됨
+ */
+public final class FixedPointPrice {
+
+  public static final int SCALE = 2;
+
+  /**
+   * 고정 소수점 가격이 없음을 나타내는 값 ({@link Product#getPriceMinor()} 기본값)
+   */
+  public static final long NO_PRICE = Long.MIN_VALUE;
+
+  private FixedPointPrice() {
+  }
+
+  /**
+   * 최소 단위 가격을 BigDecimal 로 변환 (NO_PRICE 이면 null)
+   */
+  public static BigDecimal toBigDecimal(long minor) {
+    return minor == NO_PRICE ? null : BigDecimal.valueOf(minor, SCALE);
+  }
+
+  /**
+   * 고정 소수점 가격이 있으면 그 값을, 없으면 {@link Product#getPrice()} 를 반환
+   */
+  public static BigDecimal priceOf(Product product) {
+    long minor = product.getPriceMinor();
+    return minor == NO_PRICE ? product.getPrice() : toBigDecimal(minor);
+  }
+
+  public static Factor factor(BigDecimal rate, RoundingMode roundingMode) {
+    return new Factor(rate, roundingMode);
+  }
+
+  /**
+   * 최소 단위 가격에 곱할 배율 (불변, 스레드 안전)
+   */
+  public static final class Factor {
+
+    private final long numerator;
+
+    private final long divisor;
+
+    private final RoundingMode roundingMode;
+
+    private Factor(BigDecimal rate, RoundingMode roundingMode) {
+      BigDecimal normalized = rate.stripTrailingZeros();
+      if (normalized.scale() <= 0) {
+        this.numerator = normalized.longValueExact();
+        this.divisor = 1;
+      }
+      else {
+        this.numerator = normalized.unscaledValue().longValueExact();
+        this.divisor = BigDecimal.TEN.pow(normalized.scale()).longValueExact();
+      }
+      this.roundingMode = roundingMode;
+    }
+
+    /**
+     * @param minor 최소 단위 가격 (NO_PRICE 이면 그대로 반환)
+     * @return 배율을 곱해 roundingMode 로 반올림한 최소 단위 가격
+     * @throws ArithmeticException long 범위를 넘거나 UNNECESSARY 인데 반올림이 필요한 경우
+     */
+    public long apply(long minor) {
+      if (minor == NO_PRICE) {
+        return NO_PRICE;
+      }
+      long product = Math.multiplyExact(minor, numerator);
+      long quotient = product / divisor;
+      long remainder = product % divisor;
+      if (remainder == 0) {
+        return quotient;
+      }
+
+      int sign = product < 0 ? -1 : 1;
+      long twiceRemainder = Math.abs(remainder) * 2;
+      boolean awayFromZero = switch (roundingMode) {
+        case UP -> true;
+        case DOWN -> false;
+        case CEILING -> sign > 0;
+        case FLOOR -> sign < 0;
+        case HALF_UP -> twiceRemainder >= divisor;
+        case HALF_DOWN -> twiceRemainder > divisor;
+        case HALF_EVEN -> twiceRemainder > divisor || (twiceRemainder == divisor && (quotient & 1) != 0);
+        case UNNECESSARY -> throw new ArithmeticException("Rounding necessary: " + minor + " * " + numerator + " / " + divisor);
+      };
+      return awayFromZero ? quotient + sign : quotient;
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package com.example.batch.processor;
+
+import com.example.batch.price.FixedPointPrice;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * category_discount 테이블의 카테고리별 할인 배율
+ * 고정 소수점 가격용 배율도 캐시에 적재할 때 한 번만 만들어 둠
+ *
+ * @param category 카테고리
+ * @param rate     가격에 곱할 배율 (예: 0.9)
+ * @param factor   rate 의 고정 소수점 버전 (HALF_UP)
+ */
+public record CategoryDiscount(String category, BigDecimal rate, FixedPointPrice.Factor factor) {
+
+    public static CategoryDiscount of(String category, BigDecimal rate) {
+        return new CategoryDiscount(category, rate, FixedPointPrice.factor(rate, RoundingMode.HALF_UP));
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.batch.processor;
+
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemProcessor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * chunk 전체를 한 번에 변환하는 프로세서
+ * {@link org.springframework.batch.item.ItemProcessor} 는 item 하나씩 호출되므로 item 간에 버퍼/빌더/현재 시각 같은
+ * 준비 비용을 나눌 수 없지만, 이 인터페이스는 chunk 단위로 호출되어 그런 비용을 chunk 당 한 번으로 줄일 수 있음
+ * 결과 chunk 에서 빠진 item 은 필터링된 것으로 집계됨 ({@link ChunkItemProcessorAdapter})
+ *
+ * @param <I> 입력 item 타입
+ * @param <O> 출력 item 타입
+ */
+@FunctionalInterface
+public interface ChunkItemProcessor<I, O> {
+
+    Chunk<O> process(Chunk<? extends I> chunk) throws Exception;
+
+    /**
+     * 이 프로세서의 결과 chunk 를 next 에 넘기는 프로세서를 반환
+     */
+    default <R> ChunkItemProcessor<I, R> andThen(ChunkItemProcessor<? super O, R> next) {
+        return chunk -> next.process(process(chunk));
+    }
+
+    /**
+     * item 단위 ItemProcessor 를 chunk 의 item 마다 적용하는 프로세서 (null 을 반환한 item 은 결과에서 빠짐)
+     * 기존 ItemProcessor 앞뒤에 chunk 단위 단계를 연결할 때 사용
+     */
+    static <I, O> ChunkItemProcessor<I, O> of(ItemProcessor<? super I, ? extends O> itemProcessor) {
+        return chunk -> {
+            List<O> outputs = new ArrayList<>(chunk.size());
+            for (I item : chunk) {
+                O output = itemProcessor.process(item);
+                if (output != null) {
+                    outputs.add(output);
+                }
+            }
+            return new Chunk<>(outputs);
+        };
+    }
+}
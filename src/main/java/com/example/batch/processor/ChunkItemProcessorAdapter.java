@@ -0,0 +1,29 @@
+package com.example.batch.processor;
+
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.step.item.SimpleChunkProcessor;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+/**
+ * {@link ChunkItemProcessor} 를 chunk 지향 Step 에 연결하는 ChunkProcessor
+ * item 단위 transform 대신 chunk 전체를 ChunkItemProcessor 에 넘기고, 결과를 그대로 writer 에 전달함
+ * 입력보다 줄어든 item 수는 {@link SimpleChunkProcessor} 가 filter count 로 집계함
+ *
+ * @param <I> 입력 item 타입
+ * @param <O> 출력 item 타입
+ */
+public class ChunkItemProcessorAdapter<I, O> extends SimpleChunkProcessor<I, O> {
+
+    private final ChunkItemProcessor<I, O> chunkItemProcessor;
+
+    public ChunkItemProcessorAdapter(ChunkItemProcessor<I, O> chunkItemProcessor, ItemWriter<? super O> itemWriter) {
+        super(null, itemWriter);
+        this.chunkItemProcessor = chunkItemProcessor;
+    }
+
+    @Override
+    protected Chunk<O> transform(StepContribution contribution, Chunk<I> inputs) throws Exception {
+        return chunkItemProcessor.process(inputs);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.batch.processor;
+
+import com.example.batch.entity.Customer;
+import com.example.batch.entity.CustomerProcessed;
+import com.example.batch.trace.ItemTracer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.item.Chunk;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link CustomerItemProcessor} 의 chunk 단위 버전
+ * fullName 조립용 StringBuilder 와 processedAt 시각을 chunk 당 한 번만 만들고, 결과 리스트도 chunk 크기로 한 번에 할당함
+ * (같은 chunk 의 item 은 같은 processedAt 을 가짐)
+ */
+@Component
+@RequiredArgsConstructor
+public class CustomerChunkProcessor implements ChunkItemProcessor<Customer, CustomerProcessed> {
+
+    private final ItemTracer itemTracer;
+
+    @Override
+    public Chunk<CustomerProcessed> process(Chunk<? extends Customer> chunk) throws Exception {
+        List<CustomerProcessed> outputs = new ArrayList<>(chunk.size());
+        StringBuilder fullName = new StringBuilder(64);
+        LocalDateTime processedAt = LocalDateTime.now();
+
+        for (Customer customer : chunk) {
+            fullName.setLength(0);
+            fullName.append(customer.getFirstName()).append(' ').append(customer.getLastName());
+
+            CustomerProcessed processed = new CustomerProcessed();
+            processed.setCustomerId(customer.getId());
+            processed.setFullName(fullName.toString());
+            processed.setEmail(customer.getEmail());
+            processed.setAge(customer.getAge());
+            processed.setProcessedAt(processedAt);
+            outputs.add(processed);
+        }
+
+        itemTracer.trace("Processing customer chunk: {} items", outputs.size());
+        return new Chunk<>(outputs);
+    }
+}
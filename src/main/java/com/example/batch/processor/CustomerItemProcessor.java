@@ -2,12 +2,17 @@ package com.example.batch.processor;
 
 import com.example.batch.entity.Customer;
 import com.example.batch.entity.CustomerProcessed;
+import com.example.batch.trace.ItemTracer;
+import lombok.RequiredArgsConstructor;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class CustomerItemProcessor implements ItemProcessor<Customer, CustomerProcessed> {
 
+    private final ItemTracer itemTracer;
+
     @Override
     public CustomerProcessed process(Customer customer) throws Exception {
         CustomerProcessed processed = new CustomerProcessed();
@@ -17,7 +22,7 @@ public class CustomerItemProcessor implements ItemProcessor<Customer, CustomerPr
         processed.setAge(customer.getAge());
         processed.setProcessedAt(java.time.LocalDateTime.now());
         
-        System.out.println("Processing customer: " + processed.getFullName());
+        itemTracer.trace("Processing customer: {}", processed.getFullName());
         return processed;
     }
 }
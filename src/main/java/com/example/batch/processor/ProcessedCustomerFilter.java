@@ -0,0 +1,140 @@
+package com.example.batch.processor;
+
+import com.example.batch.entity.Customer;
+import com.example.batch.support.LongBloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.Chunk;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 이미 customer_processed 에 기록된 customer 를 chunk 에서 제외하는 멱등성 필터
+ * Step 시작 시 customer_processed.customer_id 전체로 {@link LongBloomFilter} 를 만들고,
+ * chunk 마다 Bloom filter 에 걸린 id 만 모아 IN 조회 한 번으로 실제 처리 여부를 확인함
+ * (Bloom filter 에 없는 id 는 DB 를 조회하지 않으므로, 대부분 처리된 데이터를 다시 실행해도 읽기 비용과 거의 같음)
+ *
+ * Step 시작 이후 다른 Job 이 기록한 id 는 걸러내지 않음
+ * Step 의 listener 로도 등록해야 하며, 한 번에 하나의 Step 실행에서만 사용해야 함
+ * 여러 스레드에서 동시에 사용하면 안 됨 (chunk 를 처리하는 스레드 하나에서만 호출)
+ */
+@Slf4j
+public class ProcessedCustomerFilter implements ChunkItemProcessor<Customer, Customer>, StepExecutionListener {
+
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM customer_processed";
+
+    private static final String LOAD_SQL = "SELECT customer_id FROM customer_processed";
+
+    private static final String CONFIRM_SQL = "SELECT DISTINCT customer_id FROM customer_processed WHERE customer_id IN (:ids)";
+
+    /**
+     * IN 조회 한 번에 넣을 최대 id 수
+     */
+    private static final int CONFIRM_BATCH_SIZE = 500;
+
+    private static final int LOAD_FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private final double falsePositiveRate;
+
+    private LongBloomFilter processedIds;
+
+    private long candidateCount;
+
+    private long skippedCount;
+
+    public ProcessedCustomerFilter(DataSource dataSource) {
+        this(dataSource, 0.01);
+    }
+
+    public ProcessedCustomerFilter(DataSource dataSource, double falsePositiveRate) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(LOAD_FETCH_SIZE);
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        Long expected = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+        LongBloomFilter filter = LongBloomFilter.create(expected == null ? 0 : expected, falsePositiveRate);
+        jdbcTemplate.query(LOAD_SQL, rs -> {
+            filter.put(rs.getLong(1));
+        });
+
+        processedIds = filter;
+        candidateCount = 0;
+        skippedCount = 0;
+        log.info("Processed customer filter built: {} ids, {} bits, {} hashes",
+                filter.size(), filter.bitCount(), filter.hashCount());
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        log.info("Processed customer filter: {} skipped, {} false positives",
+                skippedCount, candidateCount - skippedCount);
+        processedIds = null;
+        return null;
+    }
+
+    @Override
+    public Chunk<Customer> process(Chunk<? extends Customer> chunk) throws Exception {
+        if (processedIds == null) {
+            throw new IllegalStateException("ProcessedCustomerFilter must be registered as a step listener");
+        }
+
+        List<Long> candidates = null;
+        for (Customer customer : chunk) {
+            Long id = customer.getId();
+            if (id != null && processedIds.mightContain(id)) {
+                if (candidates == null) {
+                    candidates = new ArrayList<>();
+                }
+                candidates.add(id);
+            }
+        }
+        if (candidates == null) {
+            return new Chunk<>(chunk.getItems());
+        }
+
+        Set<Long> processed = confirm(candidates);
+        candidateCount += candidates.size();
+        skippedCount += processed.size();
+        if (processed.isEmpty()) {
+            return new Chunk<>(chunk.getItems());
+        }
+
+        List<Customer> outputs = new ArrayList<>(chunk.size() - processed.size());
+        for (Customer customer : chunk) {
+            if (customer.getId() == null || !processed.contains(customer.getId())) {
+                outputs.add(customer);
+            }
+        }
+        return new Chunk<>(outputs);
+    }
+
+    /**
+     * Bloom filter 에 걸린 id 중 실제로 customer_processed 에 있는 id
+     */
+    private Set<Long> confirm(List<Long> candidates) {
+        Set<Long> processed = new HashSet<>();
+        for (int from = 0; from < candidates.size(); from += CONFIRM_BATCH_SIZE) {
+            List<Long> ids = candidates.subList(from, Math.min(from + CONFIRM_BATCH_SIZE, candidates.size()));
+            processed.addAll(namedParameterJdbcTemplate.queryForList(
+                    CONFIRM_SQL, Collections.singletonMap("ids", ids), Long.class));
+        }
+        return processed;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.batch.processor;
+
+import com.example.batch.cache.LookupCache;
+import com.example.batch.entity.Product;
+import com.example.batch.price.FixedPointPrice;
+import com.example.batch.trace.ItemTracer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.Chunk;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link ProductItemProcessor} 의 chunk 단위 버전
+ * 카테고리별 할인 배율은 ProductItemProcessor 와 같은 캐시/기본값으로 구하고, item 을 제자리에서 갱신한 뒤 한 번에 결과 chunk 로 넘김
+ * Step 시작 시 캐시를 적재하도록 Step 의 listener 로도 등록해야 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductChunkProcessor implements ChunkItemProcessor<Product, Product>, StepExecutionListener {
+
+    private final ItemTracer itemTracer;
+
+    private final LookupCache<String, CategoryDiscount> categoryDiscountCache;
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        categoryDiscountCache.beginJobExecution(stepExecution.getJobExecutionId());
+        categoryDiscountCache.preload();
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        categoryDiscountCache.endJobExecution(stepExecution.getJobExecutionId());
+        log.info("Lookup cache [{}] after {}: {}", categoryDiscountCache.getName(),
+                stepExecution.getStepName(), categoryDiscountCache.stats());
+        return null;
+    }
+
+    @Override
+    public Chunk<Product> process(Chunk<? extends Product> chunk) throws Exception {
+        List<Product> outputs = new ArrayList<>(chunk.size());
+        for (Product product : chunk) {
+            CategoryDiscount discount = ProductItemProcessor.discountOf(categoryDiscountCache, product.getCategory());
+
+            // 가격에 카테고리별 할인 적용 (예제)
+            if (product.getPriceMinor() != FixedPointPrice.NO_PRICE) {
+                product.setPriceMinor(discount.factor().apply(product.getPriceMinor()));
+            }
+            else if (product.getPrice() != null) {
+                product.setPrice(product.getPrice().multiply(discount.rate()));
+            }
+            outputs.add(product);
+        }
+
+        itemTracer.trace("Processing product chunk: {} items", outputs.size());
+        return new Chunk<>(outputs);
+    }
+}
@@ -1,21 +1,89 @@
 package com.example.batch.processor;
 
+import com.example.batch.cache.LookupCache;
 import com.example.batch.entity.Product;
+import com.example.batch.price.FixedPointPrice;
+import com.example.batch.trace.ItemTracer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 카테고리별 할인 배율(category_discount)을 적용하는 프로세서
+ * 배율은 {@link LookupCache} 에서 조회하므로 item 마다 DB 를 조회하지 않음
+ * Step 시작 시 캐시를 한 번에 적재하고, 새 Job 실행이면 이전 실행의 캐시를 비운 뒤 적재함
+ * (chunk() 로 만든 Step 은 StepExecutionListener 를 구현한 프로세서를 자동으로 listener 로 등록함)
+ */
+@Slf4j
 @Component
-public class ProductItemProcessor implements ItemProcessor<Product, Product> {
+@RequiredArgsConstructor
+public class ProductItemProcessor implements ItemProcessor<Product, Product>, StepExecutionListener {
+
+    /**
+     * category_discount 에 없는 카테고리에 적용하는 기본 할인 배율
+     */
+    static final BigDecimal DISCOUNT_RATE = new BigDecimal("0.9");
+
+    /**
+     * 고정 소수점 가격용 할인 배율 (HALF_UP: BigDecimal 결과를 DECIMAL(10, 2) 에 저장한 값과 동일)
+     */
+    static final FixedPointPrice.Factor DISCOUNT = FixedPointPrice.factor(DISCOUNT_RATE, RoundingMode.HALF_UP);
+
+    private static final CategoryDiscount DEFAULT_DISCOUNT = new CategoryDiscount(null, DISCOUNT_RATE, DISCOUNT);
+
+    private final ItemTracer itemTracer;
+
+    private final LookupCache<String, CategoryDiscount> categoryDiscountCache;
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        categoryDiscountCache.beginJobExecution(stepExecution.getJobExecutionId());
+        categoryDiscountCache.preload();
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        categoryDiscountCache.endJobExecution(stepExecution.getJobExecutionId());
+        log.info("Lookup cache [{}] after {}: {}", categoryDiscountCache.getName(),
+                stepExecution.getStepName(), categoryDiscountCache.stats());
+        return null;
+    }
 
     @Override
     public Product process(Product product) throws Exception {
-        // 가격에 10% 할인 적용 (예제)
+        CategoryDiscount discount = discountOf(categoryDiscountCache, product.getCategory());
+
+        // 가격에 카테고리별 할인 적용 (예제)
+        if (product.getPriceMinor() != FixedPointPrice.NO_PRICE) {
+            product.setPriceMinor(discount.factor().apply(product.getPriceMinor()));
+            itemTracer.trace("Processing product: {} - Price (minor units): {}", product.getName(), product.getPriceMinor());
+            return product;
+        }
+
         if (product.getPrice() != null) {
-            product.setPrice(product.getPrice().multiply(new java.math.BigDecimal("0.9")));
+            product.setPrice(product.getPrice().multiply(discount.rate()));
         }
         
-        System.out.println("Processing product: " + product.getName() + " - Price: " + product.getPrice());
+        itemTracer.trace("Processing product: {} - Price: {}", product.getName(), product.getPrice());
         return product;
     }
-}
 
+    /**
+     * 카테고리의 할인 배율 (category_discount 에 없거나 카테고리가 없으면 기본 배율)
+     * {@link ProductChunkProcessor} 도 같은 배율을 적용하도록 함께 사용함
+     */
+    static CategoryDiscount discountOf(LookupCache<String, CategoryDiscount> categoryDiscountCache, String category) {
+        if (category == null) {
+            return DEFAULT_DISCOUNT;
+        }
+        CategoryDiscount discount = categoryDiscountCache.get(category);
+        return discount == null ? DEFAULT_DISCOUNT : discount;
+    }
+}
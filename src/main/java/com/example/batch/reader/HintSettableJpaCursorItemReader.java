@@ -5,7 +5,12 @@ import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Query;
 import java.util.Iterator;
 import java.util.Map;
+import jakarta.persistence.PersistenceUnitUtil;
 import lombok.NonNull;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemStreamException;
 import org.springframework.batch.item.database.JpaCursorItemReader;
@@ -24,6 +29,13 @@ import org.springframework.util.StringUtils;
  * corresponding to the current row. The query can be set directly using
  * {@link #setQueryString(String)}, or using a query provider via
  * {@link #setQueryProvider(JpaQueryProvider)}.
+ * <p>
+ * When {@link #setUseStatelessSession(boolean)} is enabled, the query runs on a Hibernate
+ * {@link StatelessSession} and is iterated with forward-only {@link ScrollableResults}, so
+ * there is no first-level cache and no dirty checking and heap usage does not grow with the
+ * commit interval. With {@link #setRestartKeyParameter(String)} the identifier of the last
+ * read entity is saved on each commit and bound to that query parameter on restart, so the
+ * query seeks past already processed rows instead of re-reading them.
  * The implementation is <b>not</b> thread-safe.
  *
  * @author Mahmoud Ben Hassine
@@ -33,6 +45,8 @@ import org.springframework.util.StringUtils;
  */
 public class HintSettableJpaCursorItemReader<T> extends AbstractItemCountingItemStreamItemReader<T> implements InitializingBean {
 
+  private static final String LAST_KEY = "last.key";
+
   private EntityManagerFactory entityManagerFactory;
 
   private EntityManager entityManager;
@@ -47,6 +61,18 @@ public class HintSettableJpaCursorItemReader<T> extends AbstractItemCountingItem
 
   private Iterator<T> iterator;
 
+  private boolean useStatelessSession;
+
+  private String restartKeyParameter;
+
+  private StatelessSession statelessSession;
+
+  private ScrollableResults<?> scrollableResults;
+
+  private PersistenceUnitUtil persistenceUnitUtil;
+
+  private Object lastKey;
+
   /**
    * Create a new {@link JpaCursorItemReader}.
    */
@@ -97,6 +123,27 @@ public class HintSettableJpaCursorItemReader<T> extends AbstractItemCountingItem
     this.hintValues = hintValues;
   }
 
+  /**
+   * Read through a Hibernate {@link StatelessSession} with forward-only scrolling instead
+   * of a regular {@link EntityManager}. Only {@link #setQueryString(String)} is supported
+   * in this mode.
+   * @param useStatelessSession whether to use a stateless session
+   */
+  public void setUseStatelessSession(boolean useStatelessSession) {
+    this.useStatelessSession = useStatelessSession;
+  }
+
+  /**
+   * Name of the query parameter that receives the identifier of the last committed entity
+   * on restart (stateless session mode only). The query must order by that identifier and
+   * filter on it, e.g. {@code WHERE c.id > :lastId ORDER BY c.id}, and the initial value must
+   * be given through {@link #setParameterValues(Map)}.
+   * @param restartKeyParameter the query parameter name
+   */
+  public void setRestartKeyParameter(String restartKeyParameter) {
+    this.restartKeyParameter = restartKeyParameter;
+  }
+
   @Override
   public void afterPropertiesSet() throws Exception {
     Assert.state(this.entityManagerFactory != null, "EntityManagerFactory is required");
@@ -104,11 +151,31 @@ public class HintSettableJpaCursorItemReader<T> extends AbstractItemCountingItem
       Assert.state(StringUtils.hasLength(this.queryString),
                    "Query string is required when queryProvider is null");
     }
+    if (this.useStatelessSession) {
+      Assert.state(this.queryProvider == null, "Query provider is not supported with a stateless session");
+    }
+    else {
+      Assert.state(this.restartKeyParameter == null, "Restart key parameter requires a stateless session");
+    }
+  }
+
+  @Override
+  public void open(ExecutionContext executionContext) throws ItemStreamException {
+    this.lastKey = null;
+    String lastKeyKey = getExecutionContextKey(LAST_KEY);
+    if (this.restartKeyParameter != null && isSaveState() && executionContext.containsKey(lastKeyKey)) {
+      this.lastKey = executionContext.get(lastKeyKey);
+    }
+    super.open(executionContext);
   }
 
   @Override
   @SuppressWarnings("unchecked")
   protected void doOpen() throws Exception {
+    if (this.useStatelessSession) {
+      openStatelessSession();
+      return;
+    }
     this.entityManager = this.entityManagerFactory.createEntityManager();
     if (this.entityManager == null) {
       throw new DataAccessResourceFailureException("Unable to create an EntityManager");
@@ -127,6 +194,23 @@ public class HintSettableJpaCursorItemReader<T> extends AbstractItemCountingItem
     this.iterator = query.getResultStream().iterator();
   }
 
+  private void openStatelessSession() {
+    this.persistenceUnitUtil = this.entityManagerFactory.getPersistenceUnitUtil();
+    this.statelessSession = this.entityManagerFactory.unwrap(SessionFactory.class).openStatelessSession();
+    final org.hibernate.query.Query<Object> query = this.statelessSession.createQuery(this.queryString, Object.class);
+    if (this.parameterValues != null) {
+      this.parameterValues.forEach(query::setParameter);
+    }
+    if (this.lastKey != null) {
+      query.setParameter(this.restartKeyParameter, this.lastKey);
+    }
+    if (this.hintValues != null) {
+      this.hintValues.forEach(query::setHint);
+    }
+
+    this.scrollableResults = query.scroll(ScrollMode.FORWARD_ONLY);
+  }
+
   private Query createQuery() {
     if (this.queryProvider == null) {
       return this.entityManager.createQuery(this.queryString);
@@ -136,18 +220,51 @@ public class HintSettableJpaCursorItemReader<T> extends AbstractItemCountingItem
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   protected T doRead() {
+    if (this.useStatelessSession) {
+      if (!this.scrollableResults.next()) {
+        return null;
+      }
+      T item = (T) this.scrollableResults.get();
+      if (this.restartKeyParameter != null) {
+        this.lastKey = this.persistenceUnitUtil.getIdentifier(item);
+      }
+      return item;
+    }
     return this.iterator.hasNext() ? this.iterator.next() : null;
   }
 
+  @Override
+  protected void jumpToItem(int itemIndex) throws Exception {
+    if (this.lastKey != null) {
+      // the query already starts after the last committed key
+      return;
+    }
+    super.jumpToItem(itemIndex);
+  }
+
   @Override
   public void update(@NonNull ExecutionContext executionContext) throws ItemStreamException {
     super.update(executionContext);
-    this.entityManager.clear();
+    if (this.entityManager != null) {
+      this.entityManager.clear();
+    }
+    if (this.restartKeyParameter != null && isSaveState() && this.lastKey != null) {
+      executionContext.put(getExecutionContextKey(LAST_KEY), this.lastKey);
+    }
   }
 
   @Override
   protected void doClose() {
+    if (this.scrollableResults != null) {
+      this.scrollableResults.close();
+      this.scrollableResults = null;
+    }
+    if (this.statelessSession != null) {
+      this.statelessSession.close();
+      this.statelessSession = null;
+    }
     if (this.entityManager != null) {
       this.entityManager.close();
     }
@@ -0,0 +1,200 @@
+package com.example.batch.reader;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.Query;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * 키셋(seek) 방식으로 페이지를 읽는 JPA ItemReader
+ * {@link org.springframework.batch.item.database.JpaPagingItemReader} 는 setFirstResult(offset) 으로 페이지를 읽어
+ * 뒤쪽 페이지일수록 앞의 row 를 모두 다시 훑지만, 이 리더는 마지막으로 읽은 키를 기억했다가
+ * {@code WHERE c.id > :lastId ORDER BY c.id} + setMaxResults(pageSize) 로 다음 페이지를 읽으므로
+ * 테이블 크기와 관계없이 페이지당 지연 시간이 일정함
+ *
+ * 쿼리는 키 컬럼으로 정렬하고 {@link #setKeyParameter(String)} 이름의 파라미터로 필터링해야 하며,
+ * 키는 엔티티 식별자({@link PersistenceUnitUtil#getIdentifier(Object)})를 사용함
+ * 커밋마다 마지막 키를 ExecutionContext 에 저장하고, 재시작 시 앞 row 를 다시 읽지 않고 그 키 이후부터 조회함
+ * The implementation is <b>not</b> thread-safe.
+ *
+ * @param <T> type of items to read
+ */
+public class KeysetJpaPagingItemReader<T> extends AbstractItemCountingItemStreamItemReader<T> implements InitializingBean {
+
+  private static final String LAST_KEY = "last.key";
+
+  private EntityManagerFactory entityManagerFactory;
+
+  private EntityManager entityManager;
+
+  private PersistenceUnitUtil persistenceUnitUtil;
+
+  private String queryString;
+
+  private String keyParameter = "lastId";
+
+  private Object firstKey;
+
+  private Map<String, Object> parameterValues;
+
+  private int pageSize = 10;
+
+  private Iterator<T> page = Collections.emptyIterator();
+
+  private boolean lastPage;
+
+  private Object lastKey;
+
+  private boolean restarted;
+
+  public KeysetJpaPagingItemReader() {
+    setName(ClassUtils.getShortName(KeysetJpaPagingItemReader.class));
+  }
+
+  /**
+   * @param entityManagerFactory JPA entity manager factory
+   */
+  public void setEntityManagerFactory(EntityManagerFactory entityManagerFactory) {
+    this.entityManagerFactory = entityManagerFactory;
+  }
+
+  /**
+   * 키 조건과 정렬을 포함한 JPQL (예: {@code SELECT c FROM Customer c WHERE c.id > :lastId ORDER BY c.id})
+   * @param queryString JPQL query string
+   */
+  public void setQueryString(String queryString) {
+    this.queryString = queryString;
+  }
+
+  /**
+   * 마지막으로 읽은 키를 바인딩할 쿼리 파라미터 이름 (기본 "lastId")
+   * @param keyParameter query parameter name
+   */
+  public void setKeyParameter(String keyParameter) {
+    this.keyParameter = keyParameter;
+  }
+
+  /**
+   * 첫 페이지를 읽을 때 바인딩할 키 값 (이 값보다 큰 키부터 읽음)
+   * @param firstKey initial exclusive lower bound
+   */
+  public void setFirstKey(Object firstKey) {
+    this.firstKey = firstKey;
+  }
+
+  /**
+   * 키 파라미터 외에 쿼리에 바인딩할 파라미터
+   * @param parameterValues the values keyed by parameter names used in the query string
+   */
+  public void setParameterValues(Map<String, Object> parameterValues) {
+    this.parameterValues = parameterValues;
+  }
+
+  /**
+   * 한 번에 조회할 row 수 (기본 10)
+   * @param pageSize page size
+   */
+  public void setPageSize(int pageSize) {
+    this.pageSize = pageSize;
+  }
+
+  @Override
+  public void afterPropertiesSet() throws Exception {
+    Assert.state(this.entityManagerFactory != null, "EntityManagerFactory is required");
+    Assert.state(StringUtils.hasLength(this.queryString), "Query string is required");
+    Assert.state(StringUtils.hasLength(this.keyParameter), "Key parameter is required");
+    Assert.state(this.firstKey != null, "First key is required");
+    Assert.state(this.pageSize > 0, "Page size must be greater than 0");
+  }
+
+  @Override
+  public void open(ExecutionContext executionContext) throws ItemStreamException {
+    String lastKeyKey = getExecutionContextKey(LAST_KEY);
+    this.restarted = isSaveState() && executionContext.containsKey(lastKeyKey);
+    this.lastKey = this.restarted ? executionContext.get(lastKeyKey) : this.firstKey;
+    super.open(executionContext);
+  }
+
+  @Override
+  protected void doOpen() throws Exception {
+    this.entityManager = this.entityManagerFactory.createEntityManager();
+    if (this.entityManager == null) {
+      throw new DataAccessResourceFailureException("Unable to create an EntityManager");
+    }
+    this.persistenceUnitUtil = this.entityManagerFactory.getPersistenceUnitUtil();
+    this.page = Collections.emptyIterator();
+    this.lastPage = false;
+  }
+
+  @Override
+  protected T doRead() {
+    if (!this.page.hasNext()) {
+      if (this.lastPage) {
+        return null;
+      }
+      readPage();
+      if (!this.page.hasNext()) {
+        return null;
+      }
+    }
+    T item = this.page.next();
+    this.lastKey = this.persistenceUnitUtil.getIdentifier(item);
+    return item;
+  }
+
+  @SuppressWarnings("unchecked")
+  private void readPage() {
+    // 이전 페이지 엔티티를 분리해 영속성 컨텍스트가 커지지 않도록 함
+    this.entityManager.clear();
+
+    Query query = this.entityManager.createQuery(this.queryString);
+    if (this.parameterValues != null) {
+      this.parameterValues.forEach(query::setParameter);
+    }
+    query.setParameter(this.keyParameter, this.lastKey);
+    query.setMaxResults(this.pageSize);
+
+    List<T> results = query.getResultList();
+    this.lastPage = results.size() < this.pageSize;
+    this.page = results.iterator();
+  }
+
+  @Override
+  protected void jumpToItem(int itemIndex) throws Exception {
+    if (this.restarted) {
+      // 쿼리가 이미 마지막 커밋 키 이후부터 시작하므로 건너뛸 row 가 없음
+      return;
+    }
+    super.jumpToItem(itemIndex);
+  }
+
+  @Override
+  public void update(ExecutionContext executionContext) throws ItemStreamException {
+    super.update(executionContext);
+    if (isSaveState()) {
+      executionContext.put(getExecutionContextKey(LAST_KEY), this.lastKey);
+    }
+  }
+
+  @Override
+  protected void doClose() {
+    if (this.entityManager != null) {
+      this.entityManager.close();
+      this.entityManager = null;
+    }
+    this.page = Collections.emptyIterator();
+  }
+
+}
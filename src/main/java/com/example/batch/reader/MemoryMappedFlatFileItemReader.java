@@ -0,0 +1,288 @@
+package com.example.batch.reader;
+
+import com.example.batch.mapper.ByteLineMapper;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.batch.item.file.LineMapper;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link FileChannel#map} 으로 파일을 메모리 매핑해 지정한 바이트 구간 [startOffset, endOffset) 의
+ * 라인만 읽는 ItemReader
+ * 파일을 개행 기준으로 나눈 구간마다 리더를 하나씩 두면 (FileRangePartitioner 참조)
+ * 여러 스레드가 같은 파일을 동시에 파싱할 수 있음
+ * 파일 전체를 한 번에 매핑하지 않고 windowSize 단위로 나눠 매핑하므로 수 GB 파일도 처리 가능
+ * 재시작 상태는 라인 수가 아니라 마지막으로 읽은 라인 다음의 바이트 오프셋으로 저장되어
+ * 재시작 시 앞부분을 다시 읽지 않고 바로 이어서 읽음
+ * The implementation is <b>not</b> thread-safe.
+ *
+ * @param <T> type of items to read
+ */
+@Slf4j
+public class MemoryMappedFlatFileItemReader<T> extends ItemStreamSupport implements ItemStreamReader<T>, InitializingBean {
+
+  private static final String OFFSET_KEY = "offset";
+
+  private static final long DEFAULT_WINDOW_SIZE = 64L * 1024 * 1024;
+
+  private Resource resource;
+
+  private LineMapper<T> lineMapper;
+
+  private ByteLineMapper<T> byteLineMapper;
+
+  private long startOffset = 0;
+
+  private long endOffset = -1;
+
+  private int linesToSkip = 0;
+
+  private long windowSize = DEFAULT_WINDOW_SIZE;
+
+  private boolean strict = true;
+
+  private boolean saveState = true;
+
+  private FileChannel channel;
+
+  private long fileSize;
+
+  private long limit;
+
+  private MappedByteBuffer window;
+
+  private long windowStart;
+
+  private long position;
+
+  private int lineNumber;
+
+  private byte[] lineBuffer = new byte[256];
+
+  public MemoryMappedFlatFileItemReader() {
+    setName(ClassUtils.getShortName(MemoryMappedFlatFileItemReader.class));
+  }
+
+  /**
+   * 읽을 파일
+   * @param resource 로컬 파일 시스템의 파일이어야 함
+   */
+  public void setResource(Resource resource) {
+    this.resource = resource;
+  }
+
+  /**
+   * 한 라인을 item 으로 변환할 LineMapper
+   * {@link ByteLineMapper} 도 구현하면 라인을 String 으로 디코딩하지 않고 바이트에서 바로 변환함
+   * @param lineMapper line mapper
+   */
+  @SuppressWarnings("unchecked")
+  public void setLineMapper(LineMapper<T> lineMapper) {
+    this.lineMapper = lineMapper;
+    this.byteLineMapper = (lineMapper instanceof ByteLineMapper) ? (ByteLineMapper<T>) lineMapper : null;
+  }
+
+  /**
+   * 읽기 시작할 바이트 오프셋 (라인 시작 위치여야 함, 기본 0)
+   * @param startOffset inclusive start offset
+   */
+  public void setStartOffset(long startOffset) {
+    this.startOffset = startOffset;
+  }
+
+  /**
+   * 읽기를 끝낼 바이트 오프셋 (라인 시작 위치여야 함, 음수이면 파일 끝까지)
+   * @param endOffset exclusive end offset
+   */
+  public void setEndOffset(long endOffset) {
+    this.endOffset = endOffset;
+  }
+
+  /**
+   * 파일 처음부터 읽을 때(startOffset == 0) 건너뛸 헤더 라인 수
+   * @param linesToSkip number of header lines
+   */
+  public void setLinesToSkip(int linesToSkip) {
+    this.linesToSkip = linesToSkip;
+  }
+
+  /**
+   * 한 번에 매핑할 최대 바이트 수 (기본 64MB)
+   * @param windowSize mapping window size in bytes
+   */
+  public void setWindowSize(long windowSize) {
+    this.windowSize = windowSize;
+  }
+
+  /**
+   * 파일이 없을 때 예외를 던질지 여부 (기본 true)
+   * @param strict false 이면 파일이 없을 때 아무것도 읽지 않음
+   */
+  public void setStrict(boolean strict) {
+    this.strict = strict;
+  }
+
+  /**
+   * 바이트 오프셋을 ExecutionContext 에 저장할지 여부 (기본 true)
+   * @param saveState flag value
+   */
+  public void setSaveState(boolean saveState) {
+    this.saveState = saveState;
+  }
+
+  @Override
+  public void afterPropertiesSet() throws Exception {
+    Assert.state(this.resource != null, "Resource is required");
+    Assert.state(this.lineMapper != null, "LineMapper is required");
+    Assert.state(this.windowSize > 0 && this.windowSize <= Integer.MAX_VALUE,
+                 "Window size must be between 1 and Integer.MAX_VALUE");
+  }
+
+  @Override
+  public void open(ExecutionContext executionContext) throws ItemStreamException {
+    super.open(executionContext);
+    if (!this.resource.exists()) {
+      if (this.strict) {
+        throw new ItemStreamException("Input resource must exist (reader is in 'strict' mode): " + this.resource);
+      }
+      log.warn("Input resource does not exist {}", this.resource.getDescription());
+      return;
+    }
+
+    try {
+      this.channel = FileChannel.open(this.resource.getFile().toPath(), StandardOpenOption.READ);
+      this.fileSize = this.channel.size();
+      this.limit = this.endOffset < 0 ? this.fileSize : Math.min(this.endOffset, this.fileSize);
+      this.window = null;
+      this.lineNumber = 0;
+
+      String offsetKey = getExecutionContextKey(OFFSET_KEY);
+      if (this.saveState && executionContext.containsKey(offsetKey)) {
+        this.position = executionContext.getLong(offsetKey);
+      }
+      else {
+        this.position = this.startOffset;
+        if (this.startOffset == 0) {
+          for (int i = 0; i < this.linesToSkip && this.position < this.limit; i++) {
+            nextLine();
+          }
+        }
+      }
+    }
+    catch (IOException e) {
+      throw new ItemStreamException("Failed to open resource: " + this.resource, e);
+    }
+  }
+
+  @Override
+  public T read() throws Exception {
+    if (this.channel == null) {
+      return null;
+    }
+    while (this.position < this.limit) {
+      int length = nextLine();
+      this.lineNumber++;
+      if (length == 0) {
+        continue;
+      }
+      try {
+        if (this.byteLineMapper != null) {
+          return this.byteLineMapper.mapLine(this.lineBuffer, 0, length, this.lineNumber);
+        }
+        return this.lineMapper.mapLine(new String(this.lineBuffer, 0, length, StandardCharsets.UTF_8), this.lineNumber);
+      }
+      catch (Exception e) {
+        String line = new String(this.lineBuffer, 0, length, StandardCharsets.UTF_8);
+        throw new FlatFileParseException("Parsing error at line: " + this.lineNumber + " in resource=["
+            + this.resource.getDescription() + "], input=[" + line + "]", e, line, this.lineNumber);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * position 부터 개행 문자까지의 바이트를 lineBuffer 에 복사하고 position 을 다음 라인 시작으로 옮김
+   * 라인이 매핑 윈도우 경계에 걸치면 윈도우를 다시 매핑해서 이어 읽음
+   * @return 라인 길이 (개행 문자 제외)
+   */
+  private int nextLine() throws IOException {
+    int length = 0;
+    while (this.position < this.fileSize) {
+      ensureMapped(this.position);
+      int index = (int) (this.position - this.windowStart);
+      int end = this.window.limit();
+      int newline = -1;
+      for (int i = index; i < end; i++) {
+        if (this.window.get(i) == '\n') {
+          newline = i;
+          break;
+        }
+      }
+      int copyEnd = newline >= 0 ? newline : end;
+      int count = copyEnd - index;
+      if (length + count > this.lineBuffer.length) {
+        byte[] grown = new byte[Math.max(this.lineBuffer.length * 2, length + count)];
+        System.arraycopy(this.lineBuffer, 0, grown, 0, length);
+        this.lineBuffer = grown;
+      }
+      this.window.get(index, this.lineBuffer, length, count);
+      length += count;
+      this.position = this.windowStart + copyEnd;
+      if (newline >= 0) {
+        this.position++;
+        break;
+      }
+    }
+    if (length > 0 && this.lineBuffer[length - 1] == '\r') {
+      length--;
+    }
+    return length;
+  }
+
+  private void ensureMapped(long offset) throws IOException {
+    if (this.window != null && offset >= this.windowStart && offset < this.windowStart + this.window.limit()) {
+      return;
+    }
+    long size = Math.min(this.windowSize, this.fileSize - offset);
+    this.window = this.channel.map(FileChannel.MapMode.READ_ONLY, offset, size);
+    this.windowStart = offset;
+  }
+
+  @Override
+  public void update(ExecutionContext executionContext) throws ItemStreamException {
+    super.update(executionContext);
+    if (this.saveState && this.channel != null) {
+      executionContext.putLong(getExecutionContextKey(OFFSET_KEY), this.position);
+    }
+  }
+
+  @Override
+  public void close() throws ItemStreamException {
+    super.close();
+    this.window = null;
+    if (this.channel != null) {
+      try {
+        this.channel.close();
+      }
+      catch (IOException e) {
+        throw new ItemStreamException("Failed to close resource: " + this.resource, e);
+      }
+      finally {
+        this.channel = null;
+      }
+    }
+  }
+
+}
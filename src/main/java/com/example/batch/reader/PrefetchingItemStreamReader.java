@@ -0,0 +1,286 @@
+package com.example.batch.reader;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 위임 리더를 백그라운드 스레드에서 미리 읽어 두는(read-ahead) ItemReader 데코레이터
+ * 위임 리더가 읽은 item 을 고정 크기의 lock-free 링 버퍼(단일 생산자/단일 소비자)에 채워 두므로
+ * chunk 가 처리/커밋되는 동안에도 다음 chunk 의 item 을 읽어 둘 수 있음
+ *
+ * 재시작 상태는 청크 루프에 실제로 넘겨준 item 수로 저장함
+ * 위임 리더의 상태는 미리 읽은 위치를 가리키므로 ExecutionContext 에 저장하지 않고,
+ * 재시작 시에는 위임 리더를 처음부터 열어 저장된 item 수만큼 건너뛴 뒤 다시 미리 읽기 시작함
+ * 따라서 위임 리더는 같은 입력에 대해 항상 같은 순서로 item 을 돌려줘야 함
+ *
+ * read() 는 청크 스레드 하나에서만 호출해야 함 (not thread-safe)
+ * close() 시 생산자 스레드가 제때 멈추지 않으면 위임 리더는 생산자 스레드가 멈출 때 닫음
+ * 멈추지 않은 생산자는 이전 open 의 정지 표시만 보므로, 같은 인스턴스를 다시 열어도 다시 살아나지 않음
+ *
+ * @param <T> type of items to read
+ */
+@Slf4j
+public class PrefetchingItemStreamReader<T> extends ItemStreamSupport implements ItemStreamReader<T> {
+
+  private static final String READ_COUNT = "read.count";
+
+  private static final Object END = new Object();
+
+  private static final int SPINS_BEFORE_PARK = 100;
+
+  private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+  private final ItemReader<T> delegate;
+
+  private final int prefetchDepth;
+
+  private SpscRingBuffer buffer;
+
+  private Thread producer;
+
+  /**
+   * 생산자 종료와 close() 중 나중에 도착한 쪽이 위임 리더를 닫도록 하는 표시 (open 마다 새로 만듦)
+   */
+  private AtomicBoolean closeHandoff;
+
+  /**
+   * 생산자 스레드의 실행 표시 (open 마다 새로 만들고 close() 에서 내림)
+   */
+  private AtomicBoolean running;
+
+  private boolean exhausted;
+
+  private int readCount;
+
+  public PrefetchingItemStreamReader(ItemReader<T> delegate, int prefetchDepth) {
+    Assert.notNull(delegate, "Delegate reader must not be null");
+    Assert.isTrue(prefetchDepth > 0, "Prefetch depth must be greater than 0");
+    this.delegate = delegate;
+    this.prefetchDepth = prefetchDepth;
+    setName(ClassUtils.getShortName(PrefetchingItemStreamReader.class));
+  }
+
+  @Override
+  public void open(ExecutionContext executionContext) throws ItemStreamException {
+    super.open(executionContext);
+    String readCountKey = getExecutionContextKey(READ_COUNT);
+    this.readCount = executionContext.containsKey(readCountKey) ? executionContext.getInt(readCountKey) : 0;
+    this.exhausted = false;
+
+    if (this.delegate instanceof ItemStream stream) {
+      // 위임 리더가 설정 값(파티션 범위 등)은 볼 수 있도록 복사본으로 열되, 자신의 상태는 저장되지 않게 함
+      stream.open(new ExecutionContext(executionContext));
+    }
+
+    SpscRingBuffer buffer = new SpscRingBuffer(this.prefetchDepth);
+    AtomicBoolean closeHandoff = new AtomicBoolean();
+    AtomicBoolean running = new AtomicBoolean(true);
+    this.buffer = buffer;
+    this.closeHandoff = closeHandoff;
+    this.running = running;
+    int itemsToSkip = this.readCount;
+    StepContext stepContext = StepSynchronizationManager.getContext();
+    this.producer = new Thread(() -> produce(buffer, running, closeHandoff, itemsToSkip, stepContext), "prefetch-" + getName());
+    this.producer.setDaemon(true);
+    this.producer.start();
+  }
+
+  /**
+   * 생산자 스레드: 재시작 위치까지 건너뛴 뒤 위임 리더가 끝날 때까지 버퍼를 채움
+   * close() 가 필드를 비우거나 다시 open 해도 영향을 받지 않도록 이번 실행의 버퍼와 표시를 인자로 받아 사용함
+   */
+  private void produce(SpscRingBuffer buffer, AtomicBoolean running, AtomicBoolean closeHandoff, int itemsToSkip,
+      StepContext stepContext) {
+    if (stepContext != null) {
+      // Step 스코프 위임 리더가 생산자 스레드에서도 같은 Step 실행을 보도록 등록
+      StepSynchronizationManager.register(stepContext.getStepExecution());
+    }
+    try {
+      for (int i = 0; i < itemsToSkip && running.get(); i++) {
+        if (this.delegate.read() == null) {
+          put(buffer, running, END);
+          return;
+        }
+      }
+      T item;
+      while (running.get() && (item = this.delegate.read()) != null) {
+        put(buffer, running, item);
+      }
+      put(buffer, running, END);
+    }
+    catch (Throwable t) {
+      put(buffer, running, new Failure(t));
+    }
+    finally {
+      if (!closeHandoff.compareAndSet(false, true)) {
+        // close() 가 기다리다 먼저 끝났으므로 위임 리더는 여기서 닫음
+        try {
+          closeDelegate();
+        }
+        catch (RuntimeException e) {
+          log.warn("Failed to close delegate of {}", getName(), e);
+        }
+      }
+      if (stepContext != null) {
+        StepSynchronizationManager.release();
+      }
+    }
+  }
+
+  private void put(SpscRingBuffer buffer, AtomicBoolean running, Object element) {
+    int spins = 0;
+    while (!buffer.offer(element)) {
+      if (!running.get()) {
+        return;
+      }
+      spins = backoff(spins);
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T read() throws Exception {
+    if (this.exhausted || this.buffer == null) {
+      return null;
+    }
+
+    Object element;
+    int spins = 0;
+    while ((element = this.buffer.poll()) == null) {
+      if (!this.producer.isAlive()) {
+        // 생산자가 마지막으로 넣은 값은 종료 전에 버퍼에 보이므로 한 번 더 확인한 뒤 포기함
+        element = this.buffer.poll();
+        if (element == null) {
+          this.exhausted = true;
+          throw new IllegalStateException("Prefetch thread " + this.producer.getName() + " stopped without signalling end of input");
+        }
+        break;
+      }
+      spins = backoff(spins);
+    }
+
+    if (element == END) {
+      this.exhausted = true;
+      return null;
+    }
+    if (element instanceof Failure failure) {
+      this.exhausted = true;
+      if (failure.cause instanceof Exception e) {
+        throw e;
+      }
+      throw (Error) failure.cause;
+    }
+    this.readCount++;
+    return (T) element;
+  }
+
+  private static int backoff(int spins) {
+    if (spins < SPINS_BEFORE_PARK) {
+      Thread.onSpinWait();
+      return spins + 1;
+    }
+    LockSupport.parkNanos(PARK_NANOS);
+    return spins;
+  }
+
+  @Override
+  public void update(ExecutionContext executionContext) throws ItemStreamException {
+    super.update(executionContext);
+    executionContext.putInt(getExecutionContextKey(READ_COUNT), this.readCount);
+  }
+
+  @Override
+  public void close() throws ItemStreamException {
+    super.close();
+    if (this.running != null) {
+      this.running.set(false);
+    }
+    boolean closeDelegate = true;
+    if (this.producer != null) {
+      this.producer.interrupt();
+      try {
+        this.producer.join(TimeUnit.SECONDS.toMillis(10));
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      // 생산자가 이미 멈췄으면 여기서 닫고, 아직 위임 리더를 읽고 있으면 생산자가 멈출 때 닫음
+      closeDelegate = !this.closeHandoff.compareAndSet(false, true);
+      if (!closeDelegate) {
+        log.warn("Prefetch thread {} did not stop in time, delegate will be closed when it stops", this.producer.getName());
+      }
+      this.producer = null;
+    }
+    this.buffer = null;
+    if (closeDelegate) {
+      closeDelegate();
+    }
+  }
+
+  private void closeDelegate() {
+    if (this.delegate instanceof ItemStream stream) {
+      stream.close();
+    }
+  }
+
+  private record Failure(Throwable cause) {
+  }
+
+  /**
+   * 단일 생산자 / 단일 소비자 전용 lock-free 링 버퍼
+   * 슬롯에 값을 쓴 뒤 인덱스를 release 순서로 갱신(lazySet)하고, 반대편은 인덱스를 읽은 뒤 슬롯을 읽으므로
+   * 락 없이도 슬롯 내용의 가시성이 보장됨
+   */
+  private static final class SpscRingBuffer {
+
+    private final Object[] slots;
+
+    private final int mask;
+
+    private final AtomicLong head = new AtomicLong();
+
+    private final AtomicLong tail = new AtomicLong();
+
+    private SpscRingBuffer(int capacity) {
+      int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+      this.slots = new Object[size];
+      this.mask = size - 1;
+    }
+
+    private boolean offer(Object element) {
+      long t = this.tail.get();
+      if (t - this.head.get() >= this.slots.length) {
+        return false;
+      }
+      this.slots[(int) (t & this.mask)] = element;
+      this.tail.lazySet(t + 1);
+      return true;
+    }
+
+    private Object poll() {
+      long h = this.head.get();
+      if (h >= this.tail.get()) {
+        return null;
+      }
+      int index = (int) (h & this.mask);
+      Object element = this.slots[index];
+      this.slots[index] = null;
+      this.head.lazySet(h + 1);
+      return element;
+    }
+  }
+
+}
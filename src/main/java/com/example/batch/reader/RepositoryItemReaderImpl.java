@@ -1,12 +1,14 @@
 package com.example.batch.reader;
 
 import com.example.batch.entity.Product;
+import com.example.batch.mapper.LambdaRowMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.item.ExecutionContext;
-import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ReaderNotOpenException;
 import org.springframework.batch.item.database.JdbcCursorItemReader;
 import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
-import org.springframework.jdbc.core.BeanPropertyRowMapper;
 
 import javax.sql.DataSource;
 
@@ -15,26 +17,57 @@ import javax.sql.DataSource;
  * 실제로는 Spring Data Repository를 직접 사용하는 것보다
  * JdbcCursorItemReader나 JdbcPagingItemReader를 사용하는 것이 일반적입니다.
  * 여기서는 개념을 보여주기 위해 구현했습니다.
+ *
+ * open 마다 위임 리더를 새로 만들어 처음(재시작이면 저장된 위치)부터 읽고, close 에서 커서를 닫음
+ * 한 번에 하나의 Step 실행에서만 사용해야 함 (@StepScope)
  */
 @RequiredArgsConstructor
-public class RepositoryItemReaderImpl<T> implements ItemReader<Product> {
+public class RepositoryItemReaderImpl<T> implements ItemStreamReader<Product> {
 
     private final DataSource dataSource;
     private JdbcCursorItemReader<Product> delegate;
 
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        close();
+        JdbcCursorItemReader<Product> reader = new JdbcCursorItemReaderBuilder<Product>()
+                .name("repositoryItemReader")
+                .dataSource(dataSource)
+                .sql("SELECT id, name, price, category, stock FROM product ORDER BY id")
+                .rowMapper(LambdaRowMapper.of(Product.class))
+                .build();
+        try {
+            reader.afterPropertiesSet();
+        } catch (Exception e) {
+            throw new ItemStreamException("Failed to initialize repositoryItemReader", e);
+        }
+        reader.open(executionContext);
+        delegate = reader;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (delegate != null) {
+            delegate.update(executionContext);
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        if (delegate != null) {
+            try {
+                delegate.close();
+            } finally {
+                delegate = null;
+            }
+        }
+    }
+
     @Override
     public Product read() throws Exception {
         if (delegate == null) {
-            delegate = new JdbcCursorItemReaderBuilder<Product>()
-                    .name("repositoryItemReader")
-                    .dataSource(dataSource)
-                    .sql("SELECT id, name, price, category, stock FROM product ORDER BY id")
-                    .rowMapper(new BeanPropertyRowMapper<>(Product.class))
-                    .build();
-            delegate.afterPropertiesSet();
-            delegate.open(new ExecutionContext());
+            throw new ReaderNotOpenException("Reader must be open before it can be read.");
         }
         return delegate.read();
     }
 }
-
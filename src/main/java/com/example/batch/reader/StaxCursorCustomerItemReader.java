@@ -0,0 +1,184 @@
+package com.example.batch.reader;
+
+import com.example.batch.entity.Customer;
+import java.io.InputStream;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * StAX 커서 API({@link XMLStreamReader})로 &lt;customer&gt; 조각을 읽어 Customer 에 직접 매핑하는 ItemReader
+ * {@link org.springframework.batch.item.xml.StaxEventItemReader} 처럼 조각마다 이벤트 리더를 만들고
+ * JAXB 로 unmarshal 하지 않고, id / firstName / lastName / email / age 요소의 텍스트를 바로 필드에 넣음
+ * 재시작은 StaxEventItemReader 와 같이 읽은 item 수 기준이며, 이미 읽은 조각은 매핑 없이 건너뜀
+ * The implementation is <b>not</b> thread-safe.
+ */
+@Slf4j
+public class StaxCursorCustomerItemReader extends AbstractItemCountingItemStreamItemReader<Customer> implements InitializingBean {
+
+  private final XMLInputFactory xmlInputFactory;
+
+  private Resource resource;
+
+  private String fragmentRootElementName = "customer";
+
+  private boolean strict = true;
+
+  private InputStream inputStream;
+
+  private XMLStreamReader reader;
+
+  public StaxCursorCustomerItemReader() {
+    setName(ClassUtils.getShortName(StaxCursorCustomerItemReader.class));
+    this.xmlInputFactory = XMLInputFactory.newFactory();
+    this.xmlInputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    this.xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    this.xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+  }
+
+  /**
+   * 읽을 XML 파일
+   * @param resource input resource
+   */
+  public void setResource(Resource resource) {
+    this.resource = resource;
+  }
+
+  /**
+   * Customer 하나에 해당하는 요소 이름 (기본 "customer")
+   * @param fragmentRootElementName fragment root element name
+   */
+  public void setFragmentRootElementName(String fragmentRootElementName) {
+    this.fragmentRootElementName = fragmentRootElementName;
+  }
+
+  /**
+   * 파일이 없을 때 예외를 던질지 여부 (기본 true)
+   * @param strict false 이면 파일이 없을 때 아무것도 읽지 않음
+   */
+  public void setStrict(boolean strict) {
+    this.strict = strict;
+  }
+
+  @Override
+  public void afterPropertiesSet() throws Exception {
+    Assert.state(this.resource != null, "The resource must not be null.");
+    Assert.hasText(this.fragmentRootElementName, "The fragment root element name must not be empty.");
+  }
+
+  @Override
+  protected void doOpen() throws Exception {
+    if (!this.resource.exists()) {
+      if (this.strict) {
+        throw new IllegalStateException("Input resource must exist (reader is in 'strict' mode)");
+      }
+      log.warn("Input resource does not exist {}", this.resource.getDescription());
+      return;
+    }
+    this.inputStream = this.resource.getInputStream();
+    this.reader = this.xmlInputFactory.createXMLStreamReader(this.inputStream);
+  }
+
+  @Override
+  protected Customer doRead() throws Exception {
+    if (this.reader == null || !moveToNextFragment()) {
+      return null;
+    }
+
+    Customer customer = new Customer();
+    while (this.reader.hasNext()) {
+      int event = this.reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        switch (this.reader.getLocalName()) {
+          case "id" -> customer.setId(toLong(elementText()));
+          case "firstName" -> customer.setFirstName(elementText());
+          case "lastName" -> customer.setLastName(elementText());
+          case "email" -> customer.setEmail(elementText());
+          case "age" -> customer.setAge(toInteger(elementText()));
+          default -> skipElement();
+        }
+      }
+      else if (event == XMLStreamConstants.END_ELEMENT) {
+        // 하위 요소는 모두 elementText / skipElement 에서 소비되므로 여기 오는 END_ELEMENT 는 조각의 끝
+        break;
+      }
+    }
+    return customer;
+  }
+
+  @Override
+  protected void jumpToItem(int itemIndex) throws Exception {
+    if (this.reader == null) {
+      return;
+    }
+    for (int i = 0; i < itemIndex; i++) {
+      if (!moveToNextFragment()) {
+        return;
+      }
+      skipElement();
+    }
+  }
+
+  private boolean moveToNextFragment() throws XMLStreamException {
+    while (this.reader.hasNext()) {
+      if (this.reader.next() == XMLStreamConstants.START_ELEMENT
+          && this.fragmentRootElementName.equals(this.reader.getLocalName())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 현재 START_ELEMENT 의 짝이 되는 END_ELEMENT 까지 건너뜀
+   */
+  private void skipElement() throws XMLStreamException {
+    int depth = 1;
+    while (depth > 0 && this.reader.hasNext()) {
+      int event = this.reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        depth++;
+      }
+      else if (event == XMLStreamConstants.END_ELEMENT) {
+        depth--;
+      }
+    }
+  }
+
+  private String elementText() throws XMLStreamException {
+    String text = this.reader.getElementText().trim();
+    return text.isEmpty() ? null : text;
+  }
+
+  private static Long toLong(String text) {
+    return text == null ? null : Long.valueOf(text);
+  }
+
+  private static Integer toInteger(String text) {
+    return text == null ? null : Integer.valueOf(text);
+  }
+
+  @Override
+  protected void doClose() throws Exception {
+    try {
+      if (this.reader != null) {
+        this.reader.close();
+      }
+      if (this.inputStream != null) {
+        this.inputStream.close();
+      }
+    }
+    finally {
+      this.reader = null;
+      this.inputStream = null;
+    }
+  }
+
+}
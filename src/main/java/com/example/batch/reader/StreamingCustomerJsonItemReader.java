@@ -0,0 +1,193 @@
+package com.example.batch.reader;
+
+import com.example.batch.entity.Customer;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ParseException;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Customer 객체 배열 형식의 JSON 파일을 Jackson 토큰 스트림({@link JsonParser})으로 직접 읽는 ItemReader
+ * {@link org.springframework.batch.item.json.JacksonJsonObjectReader} 처럼 객체마다 ObjectMapper databind 를
+ * 거치지 않고, JsonNode 트리도 만들지 않으며, 리플렉션 없이 필드명에 따라 setter 를 바로 호출함
+ * JsonFactory 를 공유하므로 필드명 심볼 테이블(정규화된 필드명 String)이 파서 간에 재사용됨
+ * 재시작은 JsonItemReader 와 같이 읽은 item 수 기준이며, 이미 읽은 객체는 매핑 없이 skipChildren 으로 건너뜀
+ * The implementation is <b>not</b> thread-safe.
+ */
+@Slf4j
+public class StreamingCustomerJsonItemReader extends AbstractItemCountingItemStreamItemReader<Customer> implements InitializingBean {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private Resource resource;
+
+  private boolean strict = true;
+
+  private JsonParser parser;
+
+  public StreamingCustomerJsonItemReader() {
+    setName(ClassUtils.getShortName(StreamingCustomerJsonItemReader.class));
+  }
+
+  /**
+   * 읽을 JSON 파일 (최상위가 Customer 객체 배열이어야 함)
+   * @param resource input resource
+   */
+  public void setResource(Resource resource) {
+    this.resource = resource;
+  }
+
+  /**
+   * 파일이 없을 때 예외를 던질지 여부 (기본 true)
+   * @param strict false 이면 파일이 없을 때 아무것도 읽지 않음
+   */
+  public void setStrict(boolean strict) {
+    this.strict = strict;
+  }
+
+  @Override
+  public void afterPropertiesSet() throws Exception {
+    Assert.state(this.resource != null, "The resource must not be null.");
+  }
+
+  @Override
+  protected void doOpen() throws Exception {
+    if (!this.resource.exists()) {
+      if (this.strict) {
+        throw new IllegalStateException("Input resource must exist (reader is in 'strict' mode)");
+      }
+      log.warn("Input resource does not exist {}", this.resource.getDescription());
+      return;
+    }
+    this.parser = JSON_FACTORY.createParser(this.resource.getInputStream());
+    Assert.state(this.parser.nextToken() == JsonToken.START_ARRAY,
+                 "The Json input stream must start with an array of Json objects");
+  }
+
+  @Override
+  protected Customer doRead() throws Exception {
+    if (this.parser == null) {
+      return null;
+    }
+    JsonToken token = this.parser.nextToken();
+    if (token == JsonToken.START_OBJECT) {
+      return readCustomer();
+    }
+    if (token == JsonToken.END_ARRAY || token == null) {
+      return null;
+    }
+    throw new ParseException("Unexpected token " + token + " at " + this.parser.currentLocation());
+  }
+
+  private Customer readCustomer() throws Exception {
+    Customer customer = new Customer();
+    String fieldName;
+    while ((fieldName = this.parser.nextFieldName()) != null) {
+      JsonToken value = this.parser.nextToken();
+      switch (fieldName) {
+        case "id" -> customer.setId(longValue(fieldName, value));
+        case "firstName" -> customer.setFirstName(textValue(fieldName, value));
+        case "lastName" -> customer.setLastName(textValue(fieldName, value));
+        case "email" -> customer.setEmail(textValue(fieldName, value));
+        case "age" -> customer.setAge(intValue(fieldName, value));
+        default -> this.parser.skipChildren();
+      }
+    }
+    return customer;
+  }
+
+  /**
+   * 문자열 필드 값 (객체/배열이 오면 JsonItemReader 처럼 오류로 처리)
+   */
+  private String textValue(String fieldName, JsonToken value) throws Exception {
+    if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+      throw invalidValue(fieldName, value, null);
+    }
+    return this.parser.getValueAsString();
+  }
+
+  /**
+   * 정수 필드 값 (JsonItemReader 처럼 따옴표로 감싼 숫자도 허용하고, 빈 문자열과 null 은 null)
+   */
+  private Long longValue(String fieldName, JsonToken value) throws Exception {
+    if (value == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    if (value != JsonToken.VALUE_NUMBER_INT && value != JsonToken.VALUE_STRING) {
+      throw invalidValue(fieldName, value, null);
+    }
+    Long parsed;
+    try {
+      if (value == JsonToken.VALUE_NUMBER_INT) {
+        parsed = this.parser.getLongValue();
+      }
+      else {
+        String text = this.parser.getText().trim();
+        parsed = text.isEmpty() ? null : Long.valueOf(text);
+      }
+    }
+    catch (JsonProcessingException | NumberFormatException e) {
+      throw invalidValue(fieldName, value, e);
+    }
+    return parsed;
+  }
+
+  private Integer intValue(String fieldName, JsonToken value) throws Exception {
+    Long longValue = longValue(fieldName, value);
+    if (longValue != null && (longValue < Integer.MIN_VALUE || longValue > Integer.MAX_VALUE)) {
+      throw invalidValue(fieldName, value, null);
+    }
+    return longValue == null ? null : longValue.intValue();
+  }
+
+  /**
+   * 필드 값을 쓸 수 없을 때의 예외
+   * skip 정책으로 다음 item 부터 계속 읽을 수 있도록, 값(객체/배열이면 하위 토큰 전체)과 현재 객체의 나머지 필드를 건너뛴 뒤 반환함
+   */
+  private ParseException invalidValue(String fieldName, JsonToken value, Exception cause) throws Exception {
+    String location = String.valueOf(this.parser.currentLocation());
+    this.parser.skipChildren();
+    while (this.parser.nextFieldName() != null) {
+      this.parser.nextToken();
+      this.parser.skipChildren();
+    }
+    return new ParseException("Unexpected " + value + " for field '" + fieldName + "' at " + location, cause);
+  }
+
+  @Override
+  protected void jumpToItem(int itemIndex) throws Exception {
+    if (this.parser == null) {
+      return;
+    }
+    for (int i = 0; i < itemIndex; i++) {
+      if (this.parser.nextToken() != JsonToken.START_OBJECT) {
+        return;
+      }
+      this.parser.skipChildren();
+    }
+  }
+
+  @Override
+  protected void doClose() throws Exception {
+    if (this.parser != null) {
+      try {
+        this.parser.close();
+      }
+      catch (Exception e) {
+        throw new ItemStreamException("Unable to close the JSON parser", e);
+      }
+      finally {
+        this.parser = null;
+      }
+    }
+  }
+
+}
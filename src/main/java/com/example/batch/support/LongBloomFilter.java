@@ -0,0 +1,115 @@
+package com.example.batch.support;
+
+/**
+ * long 키 전용 Bloom filter
+ * 키를 박싱하지 않고 long[] 비트 배열에 기록하므로, 키 n 개에 대해 오탐률 p 일 때 약 -n ln p / (ln 2)^2 비트만 사용함
+ * (예: 100만 건, 1% 이면 약 1.2MB)
+ * {@link #mightContain(long)} 이 false 이면 반드시 없는 키이고, true 이면 오탐일 수 있으므로 원본에서 다시 확인해야 함
+ * 스레드 안전하지 않으므로 여러 스레드에서 함께 쓰려면 호출하는 쪽에서 동기화해야 함
+ */
+public final class LongBloomFilter {
+
+  private static final double LN2 = Math.log(2);
+
+  /**
+   * 비트 배열 최대 크기 (long[] 최대 길이 기준)
+   */
+  private static final long MAX_BITS = (long) Integer.MAX_VALUE * Long.SIZE;
+
+  private final long[] bits;
+
+  private final long bitCount;
+
+  private final int hashCount;
+
+  private long size;
+
+  private LongBloomFilter(long bitCount, int hashCount) {
+    this.bits = new long[(int) ((bitCount + Long.SIZE - 1) / Long.SIZE)];
+    this.bitCount = (long) bits.length * Long.SIZE;
+    this.hashCount = hashCount;
+  }
+
+  /**
+   * @param expectedInsertions 예상 키 수 (0 이하이면 1 로 간주)
+   * @param falsePositiveRate  목표 오탐률 (0 초과 1 미만)
+   */
+  public static LongBloomFilter create(long expectedInsertions, double falsePositiveRate) {
+    if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1: " + falsePositiveRate);
+    }
+    long n = Math.max(1, expectedInsertions);
+    long bitCount = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (LN2 * LN2));
+    bitCount = Math.min(MAX_BITS, Math.max(Long.SIZE, bitCount));
+    int hashCount = (int) Math.max(1, Math.round((double) bitCount / n * LN2));
+    return new LongBloomFilter(bitCount, hashCount);
+  }
+
+  public void put(long key) {
+    long h1 = mix(key);
+    long h2 = mix(h1 ^ 0x9e3779b97f4a7c15L);
+    for (int i = 1; i <= hashCount; i++) {
+      long index = index(h1 + i * h2);
+      bits[(int) (index >>> 6)] |= 1L << index;
+    }
+    size++;
+  }
+
+  public boolean mightContain(long key) {
+    long h1 = mix(key);
+    long h2 = mix(h1 ^ 0x9e3779b97f4a7c15L);
+    for (int i = 1; i <= hashCount; i++) {
+      long index = index(h1 + i * h2);
+      if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * put 호출 횟수 (중복 키 포함)
+   */
+  public long size() {
+    return size;
+  }
+
+  public long bitCount() {
+    return bitCount;
+  }
+
+  public int hashCount() {
+    return hashCount;
+  }
+
+  /**
+   * 현재 채워진 비트 비율로 추정한 오탐률
+   */
+  public double expectedFalsePositiveRate() {
+    long set = 0;
+    for (long word : bits) {
+      set += Long.bitCount(word);
+    }
+    return Math.pow((double) set / bitCount, hashCount);
+  }
+
+  /**
+   * 두 해시를 조합한 값(h1 + i * h2)을 비트 위치로 변환 (부호 비트는 버림)
+   */
+  private long index(long combined) {
+    return (combined & Long.MAX_VALUE) % bitCount;
+  }
+
+  /**
+   * 연속된 id 도 비트 전체에 고르게 퍼지도록 섞음 (MurmurHash3 fmix64)
+   */
+  private static long mix(long key) {
+    long h = key;
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
@@ -0,0 +1,210 @@
+package com.example.batch.trace;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 프로세서/라이터의 item 단위 추적 로그
+ * item 마다 System.out.println 을 호출하면 콘솔 쓰기(동기화 + I/O)가 처리 시간의 대부분을 차지하므로,
+ * 호출 스레드에서는 Step 별 카운터만 올리고 실제 로그는 모드에 따라 일부만, 별도 스레드에서 기록함
+ *
+ * <ul>
+ *   <li>{@link Mode#OFF}: 카운터만 집계</li>
+ *   <li>{@link Mode#SAMPLED}: 이벤트마다 sampleEvery 번째 item, 또는 sampleInterval 마다 한 건만 기록</li>
+ *   <li>{@link Mode#FULL}: 모든 item 을 기록</li>
+ * </ul>
+ *
+ * 기록할 이벤트는 크기가 제한된 큐에 넣고 데몬 스레드가 slf4j 로 출력하며, 큐가 가득 차면 처리 스레드를 막지 않고 버림(dropped 로 집계)
+ * 메시지는 slf4j 형식({})이고 인자는 출력 스레드에서 문자열로 변환하므로, 기록하지 않는 item 은 문자열을 만들지 않음
+ */
+@Slf4j
+@Component
+public class ItemTracer implements DisposableBean {
+
+  public enum Mode {
+    OFF, SAMPLED, FULL
+  }
+
+  private static final String NO_STEP = "none";
+
+  private final Mode mode;
+
+  private final long sampleEvery;
+
+  private final long sampleIntervalNanos;
+
+  private final BlockingQueue<TraceEvent> queue;
+
+  private final Thread writerThread;
+
+  private final Map<String, Map<String, EventCounter>> counters = new ConcurrentHashMap<>();
+
+  private final LongAdder dropped = new LongAdder();
+
+  private volatile boolean running = true;
+
+  public ItemTracer(@Value("${batch.trace.mode:SAMPLED}") Mode mode,
+                    @Value("${batch.trace.sample-every:1000}") long sampleEvery,
+                    @Value("${batch.trace.sample-interval:0s}") Duration sampleInterval,
+                    @Value("${batch.trace.queue-capacity:8192}") int queueCapacity) {
+    this.mode = mode;
+    this.sampleEvery = sampleEvery;
+    this.sampleIntervalNanos = sampleInterval.toNanos();
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+    if (mode == Mode.OFF) {
+      this.writerThread = null;
+    }
+    else {
+      this.writerThread = new Thread(this::drain, "item-tracer");
+      this.writerThread.setDaemon(true);
+      this.writerThread.start();
+    }
+  }
+
+  /**
+   * 카운터만 집계하고 아무것도 기록하지 않는 tracer
+   */
+  public static ItemTracer off() {
+    return new ItemTracer(Mode.OFF, 0, Duration.ZERO, 1);
+  }
+
+  public void trace(String format, Object arg) {
+    trace(format, arg, null);
+  }
+
+  /**
+   * @param format 이벤트 메시지 (slf4j 형식, 이벤트별 카운터의 키로도 사용되므로 상수 문자열이어야 함)
+   */
+  public void trace(String format, Object arg1, Object arg2) {
+    String step = currentStepName();
+    if (shouldWrite(step, format)) {
+      enqueue(new TraceEvent(step, format, arg1, arg2));
+    }
+  }
+
+  /**
+   * long 인자는 실제로 기록할 때만 boxing 함
+   */
+  public void trace(String format, Object arg1, long arg2) {
+    String step = currentStepName();
+    if (shouldWrite(step, format)) {
+      enqueue(new TraceEvent(step, format, arg1, arg2));
+    }
+  }
+
+  /**
+   * Step 이름 -> 이벤트 메시지 -> 건수
+   */
+  public Map<String, Map<String, Long>> snapshot() {
+    Map<String, Map<String, Long>> snapshot = new LinkedHashMap<>();
+    counters.forEach((step, events) -> {
+      Map<String, Long> counts = new LinkedHashMap<>();
+      events.forEach((format, counter) -> counts.put(format, counter.count.get()));
+      snapshot.put(step, Collections.unmodifiableMap(counts));
+    });
+    return Collections.unmodifiableMap(snapshot);
+  }
+
+  /**
+   * 큐가 가득 차서 기록하지 못한 이벤트 수
+   */
+  public long getDroppedCount() {
+    return dropped.sum();
+  }
+
+  @Override
+  public void destroy() throws Exception {
+    running = false;
+    if (writerThread != null) {
+      writerThread.interrupt();
+      writerThread.join(TimeUnit.SECONDS.toMillis(1));
+    }
+    snapshot().forEach((step, counts) -> log.info("Item trace counts [{}]: {}", step, counts));
+    if (getDroppedCount() > 0) {
+      log.info("Item trace events dropped: {}", getDroppedCount());
+    }
+  }
+
+  private boolean shouldWrite(String step, String format) {
+    EventCounter counter = counters
+        .computeIfAbsent(step, key -> new ConcurrentHashMap<>())
+        .computeIfAbsent(format, key -> new EventCounter());
+    long count = counter.increment();
+    return mode == Mode.FULL || (mode == Mode.SAMPLED && counter.sample(count, sampleEvery, sampleIntervalNanos));
+  }
+
+  private void enqueue(TraceEvent event) {
+    if (!queue.offer(event)) {
+      dropped.increment();
+    }
+  }
+
+  private void drain() {
+    while (running) {
+      try {
+        write(queue.take());
+      }
+      catch (InterruptedException e) {
+        break;
+      }
+    }
+    // 종료 시 남은 이벤트 출력
+    TraceEvent event;
+    while ((event = queue.poll()) != null) {
+      write(event);
+    }
+  }
+
+  private void write(TraceEvent event) {
+    if (log.isInfoEnabled()) {
+      log.info("[" + event.step() + "] " + event.format(), event.arg1(), event.arg2());
+    }
+  }
+
+  private static String currentStepName() {
+    StepContext context = StepSynchronizationManager.getContext();
+    return context == null ? NO_STEP : context.getStepName();
+  }
+
+  private record TraceEvent(String step, String format, Object arg1, Object arg2) {
+  }
+
+  private static final class EventCounter {
+
+    private final AtomicLong count = new AtomicLong();
+
+    private final AtomicLong nextSampleNanos = new AtomicLong(System.nanoTime());
+
+    long increment() {
+      return count.incrementAndGet();
+    }
+
+    boolean sample(long count, long every, long intervalNanos) {
+      if (every > 0 && count % every == 0) {
+        return true;
+      }
+      if (intervalNanos > 0) {
+        long now = System.nanoTime();
+        long next = nextSampleNanos.get();
+        return now - next >= 0 && nextSampleNanos.compareAndSet(next, now + intervalNanos);
+      }
+      return false;
+    }
+  }
+}
@@ -1,33 +1,90 @@
 package com.example.batch.writer;
 
 import com.example.batch.entity.CustomerProcessed;
+import com.example.batch.trace.ItemTracer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.sql.Statement;
+
+@Slf4j
 @RequiredArgsConstructor
 public class CustomerItemWriter implements ItemWriter<CustomerProcessed> {
 
+    private static final String INSERT_SQL = "INSERT INTO customer_processed (customer_id, full_name, email, age, processed_at) VALUES (?, ?, ?, ?, ?)";
+
     private final JdbcTemplate jdbcTemplate;
 
+    /**
+     * JDBC 배치 한 번에 전송할 최대 row 수
+     * 0 이하이면 item 마다 update 를 실행하는 기존 방식으로 동작
+     */
+    private final int batchSize;
+
+    private final ItemTracer itemTracer;
+
     public CustomerItemWriter(javax.sql.DataSource dataSource) {
+        this(dataSource, 0);
+    }
+
+    public CustomerItemWriter(javax.sql.DataSource dataSource, int batchSize) {
+        this(dataSource, batchSize, ItemTracer.off());
+    }
+
+    public CustomerItemWriter(javax.sql.DataSource dataSource, int batchSize, ItemTracer itemTracer) {
         this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.batchSize = batchSize;
+        this.itemTracer = itemTracer;
     }
 
     @Override
     public void write(Chunk<? extends CustomerProcessed> chunk) throws Exception {
-        String sql = "INSERT INTO customer_processed (customer_id, full_name, email, age, processed_at) VALUES (?, ?, ?, ?, ?)";
-        
+        if (batchSize > 0) {
+            writeInBatches(chunk);
+            return;
+        }
+
         for (CustomerProcessed item : chunk.getItems()) {
-            jdbcTemplate.update(sql,
+            jdbcTemplate.update(INSERT_SQL,
                     item.getCustomerId(),
                     item.getFullName(),
                     item.getEmail(),
                     item.getAge(),
                     item.getProcessedAt());
-            System.out.println("Written: " + item.getFullName());
+            itemTracer.trace("Written: {}", item.getFullName());
         }
     }
-}
 
+    /**
+     * chunk 를 batchSize 단위로 잘라 JDBC 배치로 전송
+     * 배치 하나당 DB 왕복 1회로 처리되므로 배치별 row 수를 로그로 남겨 절감 효과를 확인할 수 있음
+     * item trace 는 item 마다 update 하는 방식과 같게 파라미터를 바인딩할 때 남김
+     */
+    private void writeInBatches(Chunk<? extends CustomerProcessed> chunk) {
+        int[][] updateCounts = jdbcTemplate.batchUpdate(INSERT_SQL, chunk.getItems(), batchSize, (ps, item) -> {
+            ps.setObject(1, item.getCustomerId());
+            ps.setString(2, item.getFullName());
+            ps.setString(3, item.getEmail());
+            ps.setObject(4, item.getAge());
+            ps.setObject(5, item.getProcessedAt());
+            itemTracer.trace("Written: {}", item.getFullName());
+        });
+
+        for (int i = 0; i < updateCounts.length; i++) {
+            log.debug("customer_processed batch {}/{}: {} rows written in 1 round-trip",
+                    i + 1, updateCounts.length, countRows(updateCounts[i]));
+        }
+    }
+
+    private static int countRows(int[] counts) {
+        int rows = 0;
+        for (int count : counts) {
+            // 드라이버가 건수를 알려주지 않는 경우(SUCCESS_NO_INFO)는 1건으로 간주
+            rows += (count == Statement.SUCCESS_NO_INFO) ? 1 : count;
+        }
+        return rows;
+    }
+}
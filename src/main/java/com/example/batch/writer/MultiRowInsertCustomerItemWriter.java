@@ -0,0 +1,121 @@
+package com.example.batch.writer;
+
+import com.example.batch.entity.CustomerProcessed;
+import com.example.batch.trace.ItemTracer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * customer_processed 에 여러 row 를 INSERT ... VALUES (...), (...), ... 한 문장으로 기록하는 writer
+ * row 하나당 문장 하나를 배치로 보내는 {@link CustomerItemWriter} 와 달리, 문장 하나에 rowsPerStatement 개의 row 를 담아
+ * DB 가 문장을 파싱/실행하는 횟수 자체를 줄임
+ *
+ * chunk 는 rowsPerStatement 개씩 나누어 같은 PreparedStatement 를 재사용해 JDBC 배치로 보내고, 남은 row 만 한 문장으로 보냄
+ * SQL 문자열은 row 수별로 한 번만 만들어 캐시하므로, 드라이버/DB 의 문장 캐시도 같은 문자열로 재사용됨
+ */
+@Slf4j
+public class MultiRowInsertCustomerItemWriter implements ItemWriter<CustomerProcessed> {
+
+    private static final String INSERT_PREFIX = "INSERT INTO customer_processed (customer_id, full_name, email, age, processed_at) VALUES ";
+
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?)";
+
+    private static final int COLUMN_COUNT = 5;
+
+    /**
+     * 문장 하나에 바인딩할 수 있는 최대 파라미터 수 (대부분의 DB/드라이버 한도보다 작게 유지)
+     */
+    private static final int MAX_PARAMETERS = 32_767;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final int rowsPerStatement;
+
+    private final ItemTracer itemTracer;
+
+    /**
+     * row 수 -> INSERT 문
+     */
+    private final ConcurrentHashMap<Integer, String> sqlByRowCount = new ConcurrentHashMap<>();
+
+    public MultiRowInsertCustomerItemWriter(DataSource dataSource, int rowsPerStatement) {
+        this(dataSource, rowsPerStatement, ItemTracer.off());
+    }
+
+    public MultiRowInsertCustomerItemWriter(DataSource dataSource, int rowsPerStatement, ItemTracer itemTracer) {
+        if (rowsPerStatement <= 0 || rowsPerStatement * COLUMN_COUNT > MAX_PARAMETERS) {
+            throw new IllegalArgumentException("rowsPerStatement must be between 1 and " + MAX_PARAMETERS / COLUMN_COUNT);
+        }
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.rowsPerStatement = rowsPerStatement;
+        this.itemTracer = itemTracer;
+    }
+
+    @Override
+    public void write(Chunk<? extends CustomerProcessed> chunk) throws Exception {
+        List<? extends CustomerProcessed> items = chunk.getItems();
+        if (items.isEmpty()) {
+            return;
+        }
+
+        int statements = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            int fullStatements = items.size() / rowsPerStatement;
+            int remainder = items.size() % rowsPerStatement;
+
+            if (fullStatements > 0) {
+                try (PreparedStatement ps = connection.prepareStatement(sqlFor(rowsPerStatement))) {
+                    for (int i = 0; i < fullStatements; i++) {
+                        bind(ps, items, i * rowsPerStatement, rowsPerStatement);
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+                }
+            }
+            if (remainder > 0) {
+                try (PreparedStatement ps = connection.prepareStatement(sqlFor(remainder))) {
+                    bind(ps, items, fullStatements * rowsPerStatement, remainder);
+                    ps.executeUpdate();
+                }
+            }
+            return fullStatements + (remainder > 0 ? 1 : 0);
+        });
+
+        log.debug("customer_processed multi-row insert: {} rows in {} statements", items.size(), statements);
+        itemTracer.trace("Written: {} rows in {} statements", items.size(), statements);
+    }
+
+    private String sqlFor(int rowCount) {
+        return sqlByRowCount.computeIfAbsent(rowCount, count -> {
+            StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + count * (ROW_PLACEHOLDER.length() + 2));
+            sql.append(INSERT_PREFIX);
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+                sql.append(ROW_PLACEHOLDER);
+            }
+            return sql.toString();
+        });
+    }
+
+    private static void bind(PreparedStatement ps, List<? extends CustomerProcessed> items, int from, int rowCount) throws SQLException {
+        int index = 1;
+        for (int i = from; i < from + rowCount; i++) {
+            CustomerProcessed item = items.get(i);
+            ps.setObject(index++, item.getCustomerId());
+            ps.setString(index++, item.getFullName());
+            ps.setString(index++, item.getEmail());
+            ps.setObject(index++, item.getAge());
+            ps.setObject(index++, item.getProcessedAt());
+        }
+    }
+}
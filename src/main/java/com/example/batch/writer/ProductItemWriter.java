@@ -1,18 +1,29 @@
 package com.example.batch.writer;
 
 import com.example.batch.entity.Product;
+import com.example.batch.price.FixedPointPrice;
+import com.example.batch.trace.ItemTracer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.math.BigDecimal;
+
 @RequiredArgsConstructor
 public class ProductItemWriter implements ItemWriter<Product> {
 
     private final JdbcTemplate jdbcTemplate;
 
+    private final ItemTracer itemTracer;
+
     public ProductItemWriter(javax.sql.DataSource dataSource) {
+        this(dataSource, ItemTracer.off());
+    }
+
+    public ProductItemWriter(javax.sql.DataSource dataSource, ItemTracer itemTracer) {
         this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.itemTracer = itemTracer;
     }
 
     @Override
@@ -20,8 +31,9 @@ public class ProductItemWriter implements ItemWriter<Product> {
         String sql = "UPDATE product SET price = ? WHERE name = ?";
         
         for (Product item : chunk.getItems()) {
-            jdbcTemplate.update(sql, item.getPrice(), item.getName());
-            System.out.println("Updated product: " + item.getName() + " - New price: " + item.getPrice());
+            BigDecimal price = FixedPointPrice.priceOf(item);
+            jdbcTemplate.update(sql, price, item.getName());
+            itemTracer.trace("Updated product: {} - New price: {}", item.getName(), price);
         }
     }
 }
@@ -0,0 +1,105 @@
+package com.example.batch.writer;
+
+import com.example.batch.entity.Product;
+import com.example.batch.price.FixedPointPrice;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * chunk 단위로 상품 가격을 일괄 갱신하는 ItemWriter
+ * chunk 를 세션 로컬 임시 테이블(LOCAL TEMPORARY TABLE)에 적재한 뒤
+ * MERGE 한 번으로 product 테이블에 반영하여 item 마다 UPDATE 를 실행하지 않음
+ * 임시 테이블은 커넥션(세션)마다 따로 존재하므로 모든 SQL 을 같은 커넥션에서 실행함
+ */
+@Slf4j
+public class StagingProductItemWriter implements ItemWriter<Product> {
+
+    /**
+     * product 테이블과 조인할 키 컬럼
+     */
+    public enum Key {
+        NAME("name", "VARCHAR(100)"),
+        ID("id", "BIGINT");
+
+        private final String column;
+        private final String columnType;
+
+        Key(String column, String columnType) {
+            this.column = column;
+            this.columnType = columnType;
+        }
+
+        private Object extract(Product product) {
+            return this == ID ? product.getId() : product.getName();
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Key key;
+
+    private final String createStageSql;
+    private final String clearStageSql;
+    private final String insertStageSql;
+    private final String mergeSql;
+
+    public StagingProductItemWriter(DataSource dataSource, Key key) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.key = key;
+
+        String stageTable = "product_price_stage_by_" + key.column;
+        // TRANSACTIONAL: 임시 테이블 생성이 진행 중인 chunk 트랜잭션을 커밋하지 않도록 함 (H2)
+        this.createStageSql = "CREATE LOCAL TEMPORARY TABLE IF NOT EXISTS " + stageTable
+                + " (stage_key " + key.columnType + " PRIMARY KEY, price DECIMAL(10, 2)) TRANSACTIONAL";
+        this.clearStageSql = "DELETE FROM " + stageTable;
+        this.insertStageSql = "INSERT INTO " + stageTable + " (stage_key, price) VALUES (?, ?)";
+        this.mergeSql = "MERGE INTO product p USING " + stageTable + " s ON p." + key.column + " = s.stage_key"
+                + " WHEN MATCHED THEN UPDATE SET p.price = s.price";
+    }
+
+    @Override
+    public void write(Chunk<? extends Product> chunk) throws Exception {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        // 같은 키가 chunk 안에 여러 번 나오면 item 단위 UPDATE 와 동일하게 마지막 값이 반영되도록 함
+        Map<Object, BigDecimal> prices = new LinkedHashMap<>(chunk.size() * 2);
+        for (Product item : chunk.getItems()) {
+            Object keyValue = key.extract(item);
+            if (keyValue == null) {
+                throw new IllegalStateException("Product " + key.column + " is required for staging update: " + item);
+            }
+            prices.put(keyValue, FixedPointPrice.priceOf(item));
+        }
+
+        Integer updated = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(createStageSql);
+                statement.executeUpdate(clearStageSql);
+            }
+            try (PreparedStatement ps = connection.prepareStatement(insertStageSql)) {
+                for (Map.Entry<Object, BigDecimal> entry : prices.entrySet()) {
+                    ps.setObject(1, entry.getKey());
+                    ps.setBigDecimal(2, entry.getValue());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+            try (Statement statement = connection.createStatement()) {
+                return statement.executeUpdate(mergeSql);
+            }
+        });
+
+        log.debug("product price staged {} rows, merged {} rows by {}", prices.size(), updated, key.column);
+    }
+}
@@ -15,6 +15,8 @@ CREATE TABLE IF NOT EXISTS product (
     stock INT DEFAULT 0
 );
 
+CREATE INDEX IF NOT EXISTS idx_product_name ON product (name);
+
 CREATE TABLE IF NOT EXISTS customer_processed (
     id BIGINT PRIMARY KEY AUTO_INCREMENT,
     customer_id BIGINT NOT NULL,
@@ -24,3 +26,9 @@ CREATE TABLE IF NOT EXISTS customer_processed (
     processed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
+CREATE INDEX IF NOT EXISTS idx_customer_processed_customer_id ON customer_processed (customer_id);
+
+CREATE TABLE IF NOT EXISTS category_discount (
+    category VARCHAR(50) PRIMARY KEY,
+    discount_rate DECIMAL(5, 4) NOT NULL
+);
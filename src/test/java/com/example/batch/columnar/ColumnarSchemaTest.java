@@ -0,0 +1,122 @@
+package com.example.batch.columnar;
+
+import com.example.batch.entity.Product;
+import com.example.batch.mapper.ProductLineMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 컬럼형 캐시 파일의 DECIMAL 컬럼이 CSV 에서 읽은 가격을 그대로 복원하는지 확인하는 테스트 클래스
+ * flatFileJob 과 같은 {@link ProductLineMapper} 로 읽은 Product 를 {@link ColumnarSchemas#PRODUCT} 로 기록한 뒤 다시 읽어 비교함
+ */
+class ColumnarSchemaTest {
+
+    /**
+     * 소수 자릿수가 2 보다 적거나 많은 가격, 음수, 빈 값(null) 포함
+     */
+    private static final String[] PRICES = {"7", "12.3", "123.45", "12.345", "0.125", "-0.005", "1.23456", "99999.99", ""};
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("소수 자릿수가 scale 을 넘는 가격도 CSV 에서 읽은 값 그대로 복원됨")
+    void decimalColumnKeepsValuePrecision() throws Exception {
+        List<Product> products = new ArrayList<>();
+        ProductLineMapper mapper = new ProductLineMapper(false);
+        for (int i = 0; i < PRICES.length; i++) {
+            products.add(mapper.mapLine("product" + i + "," + PRICES[i] + ",cat," + i, i + 1));
+        }
+
+        List<Product> restored = roundTrip(products);
+
+        assertThat(restored).hasSameSizeAs(products);
+        for (int i = 0; i < products.size(); i++) {
+            BigDecimal price = products.get(i).getPrice();
+            assertThat(restored.get(i).getPrice())
+                    .as("price '%s'", PRICES[i])
+                    .satisfies(actual -> {
+                        if (price == null) {
+                            assertThat(actual).isNull();
+                        } else {
+                            // DB 컬럼과 같게 scale 2 미만은 scale 2 로 맞추고, 값은 항상 같음
+                            assertThat(actual).isEqualByComparingTo(price);
+                            assertThat(actual.scale()).isEqualTo(Math.max(price.scale(), 2));
+                        }
+                    });
+            assertThat(restored.get(i).getName()).isEqualTo(products.get(i).getName());
+            assertThat(restored.get(i).getStock()).isEqualTo(products.get(i).getStock());
+        }
+    }
+
+    @Test
+    @DisplayName("unscaled 값이 long 범위를 넘는 가격은 row 번호와 컬럼 이름을 담은 오류로 실패")
+    void decimalOverflowNamesRowAndColumn() throws Exception {
+        List<Product> products = List.of(
+                new Product(1L, "ok", new BigDecimal("1.00"), "cat", 1),
+                new Product(2L, "overflow", new BigDecimal("1.0000000000000000000001"), "cat", 1));
+
+        Path cache = tempDir.resolve("overflow.cbc");
+        try (ColumnarFileWriter<Product> writer = new ColumnarFileWriter<>(cache, ColumnarSchemas.PRODUCT, fingerprint(), 16)) {
+            writer.write(products.get(0));
+            assertThatThrownBy(() -> writer.write(products.get(1)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Row 2")
+                    .hasMessageContaining("'price'");
+        }
+    }
+
+    @Test
+    @DisplayName("다른 버전으로 기록된 캐시 파일은 읽지 않음")
+    void rejectsOtherFileVersion() throws Exception {
+        Path cache = write(List.of(new Product(1L, "p", new BigDecimal("1.50"), "cat", 1)));
+        try (FileChannel channel = FileChannel.open(cache, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, ColumnarFileFooter.VERSION - 1), ColumnarFileFooter.MAGIC.length);
+        }
+
+        assertThatThrownBy(() -> ColumnarFileFooter.read(cache))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("version");
+    }
+
+    private List<Product> roundTrip(List<Product> products) throws IOException {
+        Path cache = write(products);
+        List<Product> restored = new ArrayList<>();
+        try (ColumnarFileReader<Product> reader = new ColumnarFileReader<>(cache, ColumnarSchemas.PRODUCT)) {
+            Product product;
+            while ((product = reader.next()) != null) {
+                restored.add(product);
+            }
+        }
+        return restored;
+    }
+
+    private Path write(List<Product> products) throws IOException {
+        Path cache = tempDir.resolve("products.cbc");
+        // row group 경계를 넘도록 작은 row group 사용
+        try (ColumnarFileWriter<Product> writer = new ColumnarFileWriter<>(cache, ColumnarSchemas.PRODUCT, fingerprint(), 4)) {
+            for (Product product : products) {
+                writer.write(product);
+            }
+            writer.commit();
+        }
+        return cache;
+    }
+
+    private static SourceFingerprint fingerprint() {
+        return new SourceFingerprint(0, 0, 0);
+    }
+}
@@ -0,0 +1,290 @@
+package com.example.batch.launch;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link JobLaunchScheduler} 의 동시 실행 한도, 우선순위 순서, 대기열 한도, 실패 시 자리 반납을 확인하는 테스트 클래스
+ * Job 실행 스레드 대신 넘겨받은 작업을 쌓아 두는 TaskExecutor 를 사용하므로, 작업을 하나씩 실행해 Job 종료 시점을 직접 정함
+ */
+class JobLaunchSchedulerTest {
+
+    private static final String REQUEST_KEY = "request";
+
+    private final AtomicLong executionIds = new AtomicLong();
+
+    private StubTaskExecutor taskExecutor;
+
+    private JobRepository jobRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    /**
+     * 실행을 시작했지만 아직 끝나지 않은 Job 이름 -> 개수
+     */
+    private final Map<String, Integer> running = new HashMap<>();
+
+    /**
+     * 실행을 시작한 요청 번호 (시작한 순서대로)
+     */
+    private final List<Long> launchOrder = new ArrayList<>();
+
+    /**
+     * JobExecution 을 만들 때 실패할 Job 이름
+     */
+    private final Set<String> failingJobs = new HashSet<>();
+
+    private int maxConcurrentJobs;
+
+    private Map<String, Integer> jobLimits;
+
+    private int maxConcurrentPerJob;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        taskExecutor = new StubTaskExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+        jobRepository = mock(JobRepository.class);
+        when(jobRepository.createJobExecution(anyString(), any(JobParameters.class))).thenAnswer(invocation -> {
+            String jobName = invocation.getArgument(0);
+            JobParameters jobParameters = invocation.getArgument(1);
+            if (failingJobs.contains(jobName)) {
+                throw new JobExecutionAlreadyRunningException("A job execution for this job is already running: " + jobName);
+            }
+            started(jobName);
+            launchOrder.add(jobParameters.getLong(REQUEST_KEY));
+            long id = executionIds.incrementAndGet();
+            return new JobExecution(new JobInstance(id, jobName), id, jobParameters);
+        });
+    }
+
+    @Test
+    @DisplayName("실행 중인 Job 수가 전체/Job 별 한도를 넘지 않음")
+    void neverExceedsConcurrencyLimits() throws Exception {
+        JobLaunchScheduler scheduler = scheduler(3, 2, Map.of("jobA", 1), 100);
+        long request = 0;
+        for (int i = 0; i < 4; i++) {
+            scheduler.submit(job("jobA"), parameters(++request), i % 3);
+            scheduler.submit(job("jobB"), parameters(++request), i % 2);
+        }
+        scheduler.submit(job("jobC"), parameters(++request), 0);
+        scheduler.submit(job("jobC"), parameters(++request), 5);
+
+        assertThat(running.values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(3);
+        assertThat(running.get("jobA")).isEqualTo(1);
+        assertThat(scheduler.getQueuedTickets()).hasSize(7);
+        assertThat(gauge(JobLaunchScheduler.QUEUE_SIZE_METRIC)).isEqualTo(7);
+
+        while (taskExecutor.runNext()) {
+            assertThat(gauge(JobLaunchScheduler.RUNNING_METRIC))
+                    .isEqualTo(running.values().stream().mapToInt(Integer::intValue).sum());
+        }
+
+        assertThat(launchOrder).hasSize(10);
+        assertThat(scheduler.getQueuedTickets()).isEmpty();
+        assertThat(gauge(JobLaunchScheduler.RUNNING_METRIC)).isZero();
+        assertThat(gauge(JobLaunchScheduler.QUEUE_SIZE_METRIC)).isZero();
+    }
+
+    @Test
+    @DisplayName("우선순위가 높은 요청부터, 같으면 먼저 접수된 요청부터 실행")
+    void dispatchesInPriorityOrder() throws Exception {
+        JobLaunchScheduler scheduler = scheduler(1, 1, Map.of(), 100);
+        scheduler.submit(job("jobA"), parameters(1), 0); // 자리가 비어 있으므로 바로 실행
+        scheduler.submit(job("jobA"), parameters(2), 1);
+        scheduler.submit(job("jobA"), parameters(3), 5);
+        scheduler.submit(job("jobA"), parameters(4), 5);
+        scheduler.submit(job("jobA"), parameters(5), 3);
+
+        assertThat(scheduler.getQueuedTickets())
+                .extracting(JobLaunchTicket::priority)
+                .containsExactly(5, 5, 3, 1);
+
+        while (taskExecutor.runNext()) {
+            assertThat(running.get("jobA")).isLessThanOrEqualTo(1);
+        }
+        assertThat(launchOrder).containsExactly(1L, 3L, 4L, 5L, 2L);
+    }
+
+    @Test
+    @DisplayName("Job 별 한도에 걸린 요청은 건너뛰고 다음 순서의 다른 Job 을 먼저 실행")
+    void skipsJobsAtTheirLimit() throws Exception {
+        JobLaunchScheduler scheduler = scheduler(2, 1, Map.of(), 100);
+        scheduler.submit(job("jobA"), parameters(1), 0);
+        scheduler.submit(job("jobA"), parameters(2), 9); // jobA 한도 때문에 대기
+        scheduler.submit(job("jobB"), parameters(3), 0);
+
+        assertThat(launchOrder).containsExactly(1L, 3L);
+        assertThat(scheduler.getQueuedTickets()).extracting(JobLaunchTicket::priority).containsExactly(9);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 접수하지 않음")
+    void rejectsWhenQueueIsFull() throws Exception {
+        JobLaunchScheduler scheduler = scheduler(1, 1, Map.of(), 2);
+        scheduler.submit(job("jobA"), parameters(1), 0);
+        scheduler.submit(job("jobA"), parameters(2), 0);
+        scheduler.submit(job("jobA"), parameters(3), 0);
+
+        assertThatThrownBy(() -> scheduler.submit(job("jobA"), parameters(4), 10))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(scheduler.getQueuedTickets()).hasSize(2);
+
+        // 하나가 끝나 대기열에 자리가 나면 다시 접수함
+        taskExecutor.runNext();
+        scheduler.submit(job("jobA"), parameters(4), 10);
+        assertThat(scheduler.getQueuedTickets()).extracting(JobLaunchTicket::priority).containsExactly(10, 0);
+    }
+
+    @Test
+    @DisplayName("바로 시작하지 못한 요청은 예외를 던지고 자리를 반납함")
+    void releasesSlotWhenImmediateLaunchFails() throws Exception {
+        JobLaunchScheduler scheduler = scheduler(1, 1, Map.of(), 100);
+        failingJobs.add("failingJob");
+
+        assertThatThrownBy(() -> scheduler.submit(job("failingJob"), parameters(1), 0))
+                .isInstanceOf(JobExecutionAlreadyRunningException.class);
+        assertThat(gauge(JobLaunchScheduler.RUNNING_METRIC)).isZero();
+        assertThat(scheduler.getTicket(1).orElseThrow().state()).isEqualTo(JobLaunchTicket.State.FAILED);
+
+        JobLaunchTicket ticket = scheduler.submit(job("jobA"), parameters(2), 0);
+        assertThat(ticket.state()).isEqualTo(JobLaunchTicket.State.LAUNCHED);
+        assertThat(launchOrder).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("대기열에서 꺼낸 요청이 시작에 실패해도 자리를 반납하고 다음 요청을 실행")
+    void releasesSlotWhenQueuedLaunchFails() throws Exception {
+        JobLaunchScheduler scheduler = scheduler(1, 1, Map.of(), 100);
+        failingJobs.add("failingJob");
+        scheduler.submit(job("jobA"), parameters(1), 0);
+        JobLaunchTicket failing = scheduler.submit(job("failingJob"), parameters(2), 5);
+        scheduler.submit(job("jobB"), parameters(3), 0);
+
+        taskExecutor.runNext();
+
+        assertThat(scheduler.getTicket(failing.ticketId()).orElseThrow().state()).isEqualTo(JobLaunchTicket.State.FAILED);
+        assertThat(launchOrder).containsExactly(1L, 3L);
+        assertThat(gauge(JobLaunchScheduler.RUNNING_METRIC)).isEqualTo(1);
+        assertThat(scheduler.getQueuedTickets()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("실행 스레드에 넘기지 못한 Job 은 자리를 바로 반납")
+    void releasesSlotWhenTaskExecutorRejects() throws Exception {
+        JobLaunchScheduler scheduler = scheduler(1, 1, Map.of(), 100);
+        taskExecutor.reject = true;
+        scheduler.submit(job("jobA"), parameters(1), 0);
+        assertThat(gauge(JobLaunchScheduler.RUNNING_METRIC)).isZero();
+        running.remove("jobA"); // JobExecution 은 만들었지만 실행 스레드에 넘기지 못했으므로 실행 중이 아님
+
+        taskExecutor.reject = false;
+        scheduler.submit(job("jobA"), parameters(2), 0);
+        assertThat(gauge(JobLaunchScheduler.RUNNING_METRIC)).isEqualTo(1);
+        assertThat(taskExecutor.tasks).hasSize(1);
+    }
+
+    private JobLaunchScheduler scheduler(int maxConcurrentJobs, int maxConcurrentPerJob, Map<String, Integer> jobLimits,
+                                         int queueCapacity) {
+        this.maxConcurrentJobs = maxConcurrentJobs;
+        this.maxConcurrentPerJob = maxConcurrentPerJob;
+        this.jobLimits = jobLimits;
+        return new JobLaunchScheduler(jobRepository, taskExecutor, maxConcurrentJobs, maxConcurrentPerJob, jobLimits,
+                queueCapacity, meterRegistry);
+    }
+
+    /**
+     * JobExecution 을 만든 시점(실행 시작)에 한도를 넘지 않았는지 확인
+     */
+    private void started(String jobName) {
+        int jobRunning = running.merge(jobName, 1, Integer::sum);
+        assertThat(jobRunning).as("running %s", jobName)
+                .isLessThanOrEqualTo(jobLimits.getOrDefault(jobName, maxConcurrentPerJob));
+        assertThat(running.values().stream().mapToInt(Integer::intValue).sum()).as("running jobs")
+                .isLessThanOrEqualTo(maxConcurrentJobs);
+    }
+
+    private Job job(String name) {
+        return new Job() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public void execute(JobExecution execution) {
+                running.merge(name, -1, Integer::sum);
+                execution.setStatus(BatchStatus.COMPLETED);
+            }
+        };
+    }
+
+    private static JobParameters parameters(long request) {
+        return new JobParametersBuilder().addLong(REQUEST_KEY, request).toJobParameters();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    /**
+     * 넘겨받은 작업을 바로 실행하지 않고 쌓아 두는 TaskExecutor
+     */
+    private static final class StubTaskExecutor implements TaskExecutor {
+
+        private final Deque<Runnable> tasks = new ArrayDeque<>();
+
+        private boolean reject;
+
+        @Override
+        public void execute(Runnable task) {
+            if (reject) {
+                throw new TaskRejectedException("rejected");
+            }
+            tasks.add(task);
+        }
+
+        /**
+         * 가장 먼저 넘겨받은 작업(Job 실행)을 실행
+         * @return 실행할 작업이 있었으면 true
+         */
+        boolean runNext() {
+            Runnable task = tasks.poll();
+            if (task == null) {
+                return false;
+            }
+            task.run();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.batch.price;
+
+import com.example.batch.cache.LookupCache;
+import com.example.batch.entity.Product;
+import com.example.batch.mapper.ProductLineMapper;
+import com.example.batch.processor.CategoryDiscount;
+import com.example.batch.processor.ProductChunkProcessor;
+import com.example.batch.trace.ItemTracer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 고정 소수점 할인({@link FixedPointPrice.Factor#apply(long)})이 BigDecimal 곱셈 결과를
+ * product.price 와 같은 DECIMAL(10, 2) 컬럼에 저장했을 때와 같은 값이 되는지 확인하는 테스트 클래스
+ * 같은 CSV 라인을 BigDecimal / 고정 소수점 두 방식으로 읽어 ProductChunkProcessor 로 할인한 뒤 H2 에 저장해 비교함
+ */
+class FixedPointPriceTest {
+
+    private static final String CATEGORY = "cat";
+
+    /**
+     * 할인 배율 (category_discount.discount_rate 는 DECIMAL(5, 4) 이므로 소수 4자리까지)
+     */
+    private static final String[] RATES = {"0.9", "0.5", "0.25", "0.85", "0.8765", "1.0005", "0.0001"};
+
+    /**
+     * 소수 2자리 이하 가격 (0.x5 처럼 할인 결과가 반올림 경계에 걸리는 값과 음수 포함)
+     */
+    private static final String[] PRICES = {
+            "0", "0.01", "0.05", "0.15", "0.25", "0.35", "1.05", "7", "12.3", "10.10", "123.45", "99999.99",
+            "-0.01", "-0.05", "-0.15", "-12.3", "-123.45"
+    };
+
+    /**
+     * 소수 자릿수가 2 를 넘어 최소 단위 long 으로 표현할 수 없는 가격 (BigDecimal price 로 처리됨)
+     */
+    private static final String[] NON_FIXED_POINT_PRICES = {"12.345", "0.125", "-0.005", "1.23456"};
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:fixedPointPriceTest;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE price_check (id INT PRIMARY KEY, big_decimal_price DECIMAL(10, 2), fixed_point_price DECIMAL(10, 2))");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE price_check");
+    }
+
+    @Test
+    @DisplayName("고정 소수점 할인 결과가 BigDecimal 곱셈 결과를 DECIMAL(10, 2) 에 저장한 값과 같음")
+    void fixedPointDiscountMatchesDecimalColumn() throws Exception {
+        for (String rate : RATES) {
+            for (String price : PRICES) {
+                Product[] discounted = discount(price, rate);
+                assertThat(discounted[1].getPriceMinor())
+                        .as("price %s 는 고정 소수점으로 읽어야 함", price)
+                        .isNotEqualTo(FixedPointPrice.NO_PRICE);
+
+                BigDecimal[] stored = store(discounted[0], discounted[1]);
+                assertThat(stored[1])
+                        .as("price %s * rate %s", price, rate)
+                        .isEqualTo(stored[0]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("소수 자릿수가 2 를 넘는 가격은 BigDecimal 로 할인되어 같은 값으로 저장됨")
+    void nonFixedPointPriceFallsBackToBigDecimal() throws Exception {
+        for (String rate : RATES) {
+            for (String price : NON_FIXED_POINT_PRICES) {
+                Product[] discounted = discount(price, rate);
+                assertThat(discounted[1].getPriceMinor())
+                        .as("price %s 는 BigDecimal 로 읽어야 함", price)
+                        .isEqualTo(FixedPointPrice.NO_PRICE);
+                assertThat(discounted[1].getPrice())
+                        .isEqualByComparingTo(new BigDecimal(price).multiply(new BigDecimal(rate)));
+
+                BigDecimal[] stored = store(discounted[0], discounted[1]);
+                assertThat(stored[1])
+                        .as("price %s * rate %s", price, rate)
+                        .isEqualTo(stored[0]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("반올림 경계 값은 RoundingMode 대로 반올림 (HALF_UP 은 0 에서 먼 쪽)")
+    void roundsHalfWayValues() {
+        FixedPointPrice.Factor half = FixedPointPrice.factor(new BigDecimal("0.5"), RoundingMode.HALF_UP);
+        assertThat(half.apply(5)).isEqualTo(3);
+        assertThat(half.apply(-5)).isEqualTo(-3);
+        assertThat(half.apply(4)).isEqualTo(2);
+        assertThat(half.apply(FixedPointPrice.NO_PRICE)).isEqualTo(FixedPointPrice.NO_PRICE);
+
+        FixedPointPrice.Factor halfEven = FixedPointPrice.factor(new BigDecimal("0.5"), RoundingMode.HALF_EVEN);
+        assertThat(halfEven.apply(5)).isEqualTo(2);
+        assertThat(halfEven.apply(7)).isEqualTo(4);
+        assertThat(halfEven.apply(-5)).isEqualTo(-2);
+
+        for (RoundingMode mode : List.of(RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR,
+                RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, RoundingMode.HALF_EVEN)) {
+            BigDecimal rate = new BigDecimal("0.8765");
+            FixedPointPrice.Factor factor = FixedPointPrice.factor(rate, mode);
+            for (long minor : new long[]{1, 5, 15, 12345, 9999999, -1, -5, -15, -12345}) {
+                long expected = BigDecimal.valueOf(minor, FixedPointPrice.SCALE).multiply(rate)
+                        .setScale(FixedPointPrice.SCALE, mode).unscaledValue().longValueExact();
+                assertThat(factor.apply(minor)).as("%d * %s (%s)", minor, rate, mode).isEqualTo(expected);
+            }
+        }
+    }
+
+    /**
+     * 같은 CSV 라인을 BigDecimal / 고정 소수점 두 방식으로 읽어 할인
+     * @return [BigDecimal 로 읽은 product, 고정 소수점으로 읽은 product]
+     */
+    private Product[] discount(String price, String rate) throws Exception {
+        String line = "product," + price + "," + CATEGORY + ",1";
+        Product decimal = new ProductLineMapper(false).mapLine(line, 1);
+        Product fixedPoint = new ProductLineMapper(true).mapLine(line, 1);
+
+        LookupCache<String, CategoryDiscount> cache = LookupCache.<String, CategoryDiscount>builder(
+                "categoryDiscount", category -> CategoryDiscount.of(category, new BigDecimal(rate))).build();
+        new ProductChunkProcessor(ItemTracer.off(), cache).process(new Chunk<>(decimal, fixedPoint));
+        return new Product[]{decimal, fixedPoint};
+    }
+
+    /**
+     * writer 와 같이 {@link FixedPointPrice#priceOf(Product)} 로 DECIMAL(10, 2) 컬럼에 저장한 뒤 다시 읽음
+     */
+    private BigDecimal[] store(Product decimal, Product fixedPoint) {
+        jdbcTemplate.update("DELETE FROM price_check");
+        jdbcTemplate.update("INSERT INTO price_check (id, big_decimal_price, fixed_point_price) VALUES (1, ?, ?)",
+                FixedPointPrice.priceOf(decimal), FixedPointPrice.priceOf(fixedPoint));
+        return jdbcTemplate.queryForObject("SELECT big_decimal_price, fixed_point_price FROM price_check WHERE id = 1",
+                (rs, rowNum) -> new BigDecimal[]{rs.getBigDecimal(1), rs.getBigDecimal(2)});
+    }
+}
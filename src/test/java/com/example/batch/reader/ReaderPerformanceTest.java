@@ -2,23 +2,40 @@ package com.example.batch.reader;
 
 import com.example.batch.entity.Customer;
 import com.example.batch.entity.Product;
+import com.example.batch.mapper.LambdaRowMapper;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ParseException;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
 import org.springframework.batch.item.file.FlatFileItemReader;
+import org.springframework.batch.item.json.JacksonJsonObjectReader;
+import org.springframework.batch.item.json.JsonItemReader;
+import org.springframework.batch.item.json.builder.JsonItemReaderBuilder;
 import org.springframework.batch.item.support.ListItemReader;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.batch.test.StepScopeTestExecutionListener;
+import org.springframework.batch.test.StepScopeTestUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestExecutionListeners;
 
+import org.springframework.aop.scope.ScopedProxyUtils;
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.RowMapper;
 
+import javax.sql.DataSource;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -35,9 +52,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * 각 리더의 성능을 측정하는 테스트 클래스
+ * 리더 빈은 Step 스코프이므로 StepScopeTestExecutionListener 가 테스트 메서드마다 Step 실행 컨텍스트를 만들어 줌
  */
 @SpringBootTest
 @ActiveProfiles("test")
+@TestExecutionListeners(listeners = StepScopeTestExecutionListener.class,
+    mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
 class ReaderPerformanceTest {
 
     private static final Logger log = LoggerFactory.getLogger(ReaderPerformanceTest.class);
@@ -58,6 +78,10 @@ class ReaderPerformanceTest {
     @Qualifier("jsonItemReader")
     private ItemReader<Customer> jsonItemReader;
 
+    @Autowired
+    @Qualifier("streamingJsonItemReader")
+    private ItemReader<Customer> streamingJsonItemReader;
+
     /**
      * ListItemReader 생성 헬퍼 메서드
      * ListItemReader는 상태를 유지하므로 각 테스트마다 새 인스턴스를 생성해야 함
@@ -77,6 +101,9 @@ class ReaderPerformanceTest {
     @Autowired
     private ApplicationContext applicationContext;
 
+    @Autowired
+    private DataSource dataSource;
+
     @Autowired
     @Qualifier("multiResourceItemReader")
     private ItemReader<Product> multiResourceItemReader;
@@ -93,10 +120,18 @@ class ReaderPerformanceTest {
     @Qualifier("jpaPagingItemReader")
     private ItemReader<Customer> jpaPagingItemReader;
 
+    @Autowired
+    @Qualifier("keysetJpaPagingItemReader")
+    private ItemReader<Customer> keysetJpaPagingItemReader;
+
     @Autowired
     @Qualifier("staxEventItemReader")
     private ItemReader<Customer> staxEventItemReader;
 
+    @Autowired
+    @Qualifier("staxCursorItemReader")
+    private ItemReader<Customer> staxCursorItemReader;
+
     @Autowired
     @Qualifier("mappingSqlQueryItemReader")
     private ItemReader<Customer> mappingSqlQueryItemReader;
@@ -296,6 +331,102 @@ class ReaderPerformanceTest {
         assertThat(result.totalTimeNs).isGreaterThanOrEqualTo(0); // 나노초 단위로 검증
     }
 
+    @Test
+    @DisplayName("StreamingCustomerJsonItemReader 성능 테스트")
+    void testStreamingJsonItemReaderPerformance() throws Exception {
+        PerformanceResult result = measureReaderPerformance(
+            "StreamingJsonItemReader",
+            streamingJsonItemReader,
+            Customer.class
+        );
+
+        log.info("성능 측정 결과:\n{}", result);
+
+        assertThat(result.itemCount).isGreaterThan(0);
+        assertThat(result.totalTimeNs).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("JsonItemReader vs StreamingCustomerJsonItemReader 성능 비교 테스트")
+    void testJsonReadersPerformanceComparison() throws Exception {
+        PerformanceResult databind = measureReaderPerformance(
+            "JsonItemReader",
+            jsonItemReader,
+            Customer.class
+        );
+        PerformanceResult streaming = measureReaderPerformance(
+            "StreamingJsonItemReader",
+            streamingJsonItemReader,
+            Customer.class
+        );
+
+        log.info("JSON 리더 성능 비교:\n{}\n{}", databind, streaming);
+        log.info("처리량 비율 (streaming / databind): {}",
+            String.format("%.2f", streaming.itemsPerSecond / Math.max(databind.itemsPerSecond, 1)));
+
+        assertThat(streaming.itemCount).isEqualTo(databind.itemCount);
+    }
+
+    @Test
+    @DisplayName("StreamingCustomerJsonItemReader 잘못된 레코드 처리 - 따옴표 숫자는 JsonItemReader 와 같게 읽고, 객체/배열 값은 건너뜀")
+    void testStreamingJsonReaderMalformedRecords() throws Exception {
+        Path file = Files.createTempFile("customers-malformed", ".json");
+        try {
+            Files.writeString(file, """
+                [
+                  {"id": 1, "firstName": "A", "lastName": "Kim", "email": "a@example.com", "age": 20},
+                  {"id": "2", "firstName": "B", "lastName": "Lee", "email": "b@example.com", "age": "30"},
+                  {"id": {"value": 3}, "firstName": "C", "lastName": "Park", "email": "c@example.com", "age": 40},
+                  {"id": 4, "firstName": "D", "age": [50, 51], "lastName": "Choi", "email": "d@example.com"},
+                  {"id": 5, "firstName": "E", "lastName": "Jung", "email": "e@example.com", "age": 60}
+                ]
+                """);
+
+            // skip 정책처럼 ParseException 이 나도 다음 레코드부터 계속 읽음
+            StreamingCustomerJsonItemReader streaming = new StreamingCustomerJsonItemReader();
+            streaming.setResource(new FileSystemResource(file));
+            streaming.afterPropertiesSet();
+            List<Customer> customers = new ArrayList<>();
+            int parseErrors = 0;
+            streaming.open(new ExecutionContext());
+            try {
+                while (true) {
+                    try {
+                        Customer customer = streaming.read();
+                        if (customer == null) {
+                            break;
+                        }
+                        customers.add(customer);
+                    } catch (ParseException e) {
+                        parseErrors++;
+                    }
+                }
+            } finally {
+                streaming.close();
+            }
+
+            assertThat(parseErrors).isEqualTo(2);
+            assertThat(customers).extracting(Customer::getId).containsExactly(1L, 2L, 5L);
+            assertThat(customers).extracting(Customer::getAge).containsExactly(20, 30, 60);
+
+            // 잘못된 레코드 앞까지는 JsonItemReader 와 같은 값
+            JsonItemReader<Customer> databind = new JsonItemReaderBuilder<Customer>()
+                .name("malformedJsonItemReader")
+                .resource(new FileSystemResource(file))
+                .jsonObjectReader(new JacksonJsonObjectReader<>(Customer.class))
+                .build();
+            databind.open(new ExecutionContext());
+            try {
+                assertThat(databind.read()).isEqualTo(customers.get(0));
+                assertThat(databind.read()).isEqualTo(customers.get(1));
+            } finally {
+                databind.close();
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
     @Test
     @DisplayName("ListItemReader 성능 테스트")
     void testListItemReaderPerformance() throws Exception {
@@ -328,6 +459,28 @@ class ReaderPerformanceTest {
         assertThat(result.totalTimeNs).isGreaterThanOrEqualTo(0); // 나노초 단위로 검증
     }
 
+    @Test
+    @DisplayName("Step 실행마다 새 리더 인스턴스 사용 테스트 (ListItemReader, RepositoryItemReader 반복 실행)")
+    void testStepScopedReadersAreFreshPerStepExecution() throws Exception {
+        // 싱글톤이면 두 번째 Step 실행에서 ListItemReader 는 이미 소진되어 있고, RepositoryItemReader 는 커서 끝에 머물러 있음
+        for (String beanName : List.of("listItemReader", "repositoryItemReader")) {
+            List<Integer> counts = new ArrayList<>();
+            for (long run = 1; run <= 2; run++) {
+                // Step 스코프 인스턴스는 StepExecution 단위로 만들어지므로 실행마다 다른 id 를 사용
+                StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution("readerStep", 1000 + run);
+                counts.add(StepScopeTestUtils.doInStepScope(stepExecution, () -> {
+                    @SuppressWarnings("unchecked")
+                    ItemReader<Product> reader = (ItemReader<Product>) applicationContext.getBean(beanName);
+                    return measureReaderPerformance(beanName, reader, Product.class).itemCount;
+                }));
+            }
+            log.info("{} Step 실행별 item 수: {}", beanName, counts);
+
+            assertThat(counts.get(0)).isGreaterThan(0);
+            assertThat(counts.get(1)).isEqualTo(counts.get(0));
+        }
+    }
+
     @Test
     @DisplayName("MultiResourceItemReader 성능 테스트")
     void testMultiResourceItemReaderPerformance() throws Exception {
@@ -388,6 +541,21 @@ class ReaderPerformanceTest {
         assertThat(result.totalTimeNs).isGreaterThanOrEqualTo(0);
     }
 
+    @Test
+    @DisplayName("KeysetJpaPagingItemReader 성능 테스트")
+    void testKeysetJpaPagingItemReaderPerformance() throws Exception {
+        PerformanceResult result = measureReaderPerformance(
+            "KeysetJpaPagingItemReader",
+            keysetJpaPagingItemReader,
+            Customer.class
+        );
+
+        log.info("성능 측정 결과:\n{}", result);
+
+        assertThat(result.itemCount).isGreaterThan(0);
+        assertThat(result.totalTimeNs).isGreaterThanOrEqualTo(0);
+    }
+
     @Test
     @DisplayName("StaxEventItemReader 성능 테스트")
     void testStaxEventItemReaderPerformance() throws Exception {
@@ -403,6 +571,21 @@ class ReaderPerformanceTest {
         assertThat(result.totalTimeNs).isGreaterThanOrEqualTo(0);
     }
 
+    @Test
+    @DisplayName("StaxCursorCustomerItemReader 성능 테스트")
+    void testStaxCursorItemReaderPerformance() throws Exception {
+        PerformanceResult result = measureReaderPerformance(
+            "StaxCursorItemReader",
+            staxCursorItemReader,
+            Customer.class
+        );
+
+        log.info("성능 측정 결과:\n{}", result);
+
+        assertThat(result.itemCount).isGreaterThan(0);
+        assertThat(result.totalTimeNs).isGreaterThanOrEqualTo(0);
+    }
+
     @Test
     @DisplayName("MappingSqlQueryItemReader 성능 테스트")
     void testMappingSqlQueryItemReaderPerformance() throws Exception {
@@ -418,6 +601,55 @@ class ReaderPerformanceTest {
         assertThat(result.totalTimeNs).isGreaterThanOrEqualTo(0);
     }
 
+    @Test
+    @DisplayName("BeanPropertyRowMapper vs LambdaRowMapper vs 직접 작성한 람다 RowMapper 성능 비교 테스트")
+    void testRowMappersPerformanceComparison() throws Exception {
+        RowMapper<Customer> handWritten = (rs, rowNum) -> {
+            Customer c = new Customer();
+            c.setId(rs.getLong("id"));
+            c.setFirstName(rs.getString("first_name"));
+            c.setLastName(rs.getString("last_name"));
+            c.setEmail(rs.getString("email"));
+            c.setAge(rs.getInt("age"));
+            c.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+            return c;
+        };
+        List<String> names = List.of("BeanPropertyRowMapper", "LambdaRowMapper", "HandWrittenRowMapper");
+        List<RowMapper<Customer>> mappers = List.of(
+            new BeanPropertyRowMapper<>(Customer.class), LambdaRowMapper.of(Customer.class), handWritten);
+
+        // JIT 워밍업 후 같은 쿼리/fetchSize 로 한 번씩 측정
+        for (int i = 0; i < mappers.size(); i++) {
+            measureReaderPerformance(names.get(i), customerCursorReader(mappers.get(i)), Customer.class);
+        }
+        List<PerformanceResult> results = new ArrayList<>();
+        for (int i = 0; i < mappers.size(); i++) {
+            results.add(measureReaderPerformance(names.get(i), customerCursorReader(mappers.get(i)), Customer.class));
+        }
+
+        log.info("RowMapper 성능 비교:\n{}\n{}\n{}", results.get(0), results.get(1), results.get(2));
+        log.info("처리량 비율 (LambdaRowMapper / BeanPropertyRowMapper): {}, (LambdaRowMapper / 직접 작성): {}",
+            String.format("%.2f", results.get(1).itemsPerSecond / Math.max(results.get(0).itemsPerSecond, 1)),
+            String.format("%.2f", results.get(1).itemsPerSecond / Math.max(results.get(2).itemsPerSecond, 1)));
+
+        assertThat(results.get(0).itemCount).isGreaterThan(0);
+        assertThat(results).allSatisfy(result -> assertThat(result.itemCount).isEqualTo(results.get(0).itemCount));
+    }
+
+    /**
+     * jdbcCursorItemReader 와 같은 쿼리를 지정한 RowMapper 로 읽는 리더
+     */
+    private JdbcCursorItemReader<Customer> customerCursorReader(RowMapper<Customer> rowMapper) {
+        return new JdbcCursorItemReaderBuilder<Customer>()
+            .name("rowMapperComparisonReader")
+            .dataSource(dataSource)
+            .sql("SELECT id, first_name, last_name, email, age, created_at FROM customer WHERE id BETWEEN ? AND ? ORDER BY id")
+            .queryArguments(0L, Long.MAX_VALUE)
+            .fetchSize(1000)
+            .rowMapper(rowMapper)
+            .build();
+    }
+
     @Test
     @DisplayName("스프링 컨텍스트의 모든 ItemReader 성능 비교 테스트")
     void testAllItemReadersFromContextPerformance() throws Exception {
@@ -428,12 +660,14 @@ class ReaderPerformanceTest {
         List<PerformanceResult> results = new ArrayList<>();
 
         // ApplicationContext에서 모든 ItemReader 빈 조회
-        var readers = applicationContext.getBeansOfType(ItemReader.class);
+        for (String beanName : applicationContext.getBeanNamesForType(ItemReader.class)) {
+            // Step 스코프 리더는 프록시로 측정하고, 프록시 대상 빈은 건너뜀 (파티션 컨텍스트가 없으면 전체 범위를 읽음)
+            if (ScopedProxyUtils.isScopedTarget(beanName)) {
+              continue;
+            }
 
-        for (var entry : readers.entrySet()) {
-            String beanName = entry.getKey();
             @SuppressWarnings("unchecked")
-            ItemReader<Object> reader = (ItemReader<Object>) entry.getValue();
+            ItemReader<Object> reader = (ItemReader<Object>) applicationContext.getBean(beanName);
 
             if (reader instanceof FlatFileItemReader<?>) {
               log.info("FlatFileItemReader는 별도 Step 기반 테스트 필요, skip: {}", beanName);
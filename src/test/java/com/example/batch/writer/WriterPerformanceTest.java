@@ -0,0 +1,196 @@
+package com.example.batch.writer;
+
+import com.example.batch.entity.CustomerProcessed;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * customer_processed writer 들의 성능을 비교하는 테스트 클래스
+ * 같은 item 을 chunk 단위(트랜잭션 하나)로 나누어 기록하고 처리 시간과 기록 건수를 비교함
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class WriterPerformanceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(WriterPerformanceTest.class);
+
+    private static final int ITEM_COUNT = 20_000;
+
+    private static final int CHUNK_SIZE = 1_000;
+
+    private static final String INSERT_SQL = "INSERT INTO customer_processed (customer_id, full_name, email, age, processed_at) VALUES (?, ?, ?, ?, ?)";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("customerItemWriter")
+    private ItemWriter<CustomerProcessed> customerItemWriter;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private List<CustomerProcessed> items;
+
+    /**
+     * writer 성능 측정 결과를 담는 내부 클래스
+     */
+    private static class PerformanceResult {
+        String writerName;
+        long totalTimeNs;
+        int rowCount;
+        double rowsPerSecond;
+
+        PerformanceResult(String writerName, long totalTimeNs, int rowCount) {
+            this.writerName = writerName;
+            this.totalTimeNs = totalTimeNs;
+            this.rowCount = rowCount;
+            this.rowsPerSecond = rowCount > 0 && totalTimeNs > 0
+                ? (rowCount * 1_000_000_000.0 / totalTimeNs)
+                : 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                "%-40s | 처리시간: %6d ms | 기록수: %6d | 처리량: %10.2f rows/sec",
+                writerName,
+                TimeUnit.NANOSECONDS.toMillis(totalTimeNs),
+                rowCount,
+                rowsPerSecond
+            );
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("DELETE FROM customer_processed");
+
+        LocalDateTime processedAt = LocalDateTime.now();
+        items = new ArrayList<>(ITEM_COUNT);
+        for (int i = 1; i <= ITEM_COUNT; i++) {
+            items.add(new CustomerProcessed(null, (long) i, "first" + i + " last" + i,
+                "user" + i + "@example.com", i % 60 + 20, processedAt));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM customer_processed");
+    }
+
+    /**
+     * item 을 CHUNK_SIZE 단위로 나누어 chunk 마다 트랜잭션 하나로 기록하고 시간을 측정하는 공통 메서드
+     */
+    private PerformanceResult measureWriterPerformance(String writerName, ItemWriter<CustomerProcessed> writer) {
+        jdbcTemplate.update("DELETE FROM customer_processed");
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        long startTime = System.nanoTime();
+        for (int from = 0; from < items.size(); from += CHUNK_SIZE) {
+            Chunk<CustomerProcessed> chunk = new Chunk<>(items.subList(from, Math.min(from + CHUNK_SIZE, items.size())));
+            transactionTemplate.executeWithoutResult(status -> {
+                try {
+                    writer.write(chunk);
+                } catch (Exception e) {
+                    throw new IllegalStateException(writerName + " 기록 실패", e);
+                }
+            });
+        }
+        long totalTimeNs = System.nanoTime() - startTime;
+
+        Integer rowCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM customer_processed", Integer.class);
+        return new PerformanceResult(writerName, totalTimeNs, rowCount == null ? 0 : rowCount);
+    }
+
+    /**
+     * 비교 기준: writer 없이 PreparedStatement 하나로 row 마다 addBatch 하는 JDBC 배치
+     */
+    private ItemWriter<CustomerProcessed> plainJdbcBatchWriter() {
+        return chunk -> jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL)) {
+                for (CustomerProcessed item : chunk) {
+                    ps.setObject(1, item.getCustomerId());
+                    ps.setString(2, item.getFullName());
+                    ps.setString(3, item.getEmail());
+                    ps.setObject(4, item.getAge());
+                    ps.setObject(5, item.getProcessedAt());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("MultiRowInsertCustomerItemWriter 기록 결과 검증")
+    void testMultiRowInsertCustomerItemWriterWritesAllRows() throws Exception {
+        // 1,000 건 chunk 를 row 수 300 문장 3개 + 나머지 100 row 문장 1개로 기록
+        ItemWriter<CustomerProcessed> writer = new MultiRowInsertCustomerItemWriter(dataSource, 300);
+        PerformanceResult result = measureWriterPerformance("MultiRowInsertCustomerItemWriter(300)", writer);
+
+        assertThat(result.rowCount).isEqualTo(ITEM_COUNT);
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+            "SELECT customer_id, full_name, email, age FROM customer_processed WHERE customer_id = ?", 1234L);
+        assertThat(row.get("FULL_NAME")).isEqualTo("first1234 last1234");
+        assertThat(row.get("EMAIL")).isEqualTo("user1234@example.com");
+        assertThat(row.get("AGE")).isEqualTo(1234 % 60 + 20);
+    }
+
+    @Test
+    @DisplayName("CustomerItemWriter vs JDBC 배치 vs MultiRowInsertCustomerItemWriter 성능 비교 테스트")
+    void testCustomerWritersPerformanceComparison() {
+        // JIT/커넥션 풀 준비를 위해 한 번 실행한 결과는 버림
+        measureWriterPerformance("warm-up", new MultiRowInsertCustomerItemWriter(dataSource, 100));
+        measureWriterPerformance("warm-up", plainJdbcBatchWriter());
+
+        List<PerformanceResult> results = new ArrayList<>();
+        results.add(measureWriterPerformance("CustomerItemWriter (item 단위 update)", new CustomerItemWriter(dataSource)));
+        results.add(measureWriterPerformance("CustomerItemWriter (JDBC 배치)", customerItemWriter));
+        results.add(measureWriterPerformance("JDBC 배치 (PreparedStatement)", plainJdbcBatchWriter()));
+        for (int rowsPerStatement : new int[]{10, 100, 500}) {
+            results.add(measureWriterPerformance(
+                "MultiRowInsertCustomerItemWriter(" + rowsPerStatement + ")",
+                new MultiRowInsertCustomerItemWriter(dataSource, rowsPerStatement)));
+        }
+
+        StringBuilder summary = new StringBuilder();
+        summary.append("\n").append("=".repeat(100)).append("\n");
+        summary.append("Writer 성능 측정 결과 요약 (").append(ITEM_COUNT).append(" rows, chunk ").append(CHUNK_SIZE).append(")\n");
+        summary.append("=".repeat(100)).append("\n");
+        results.forEach(result -> summary.append(result).append("\n"));
+        summary.append("=".repeat(100));
+        log.info(summary.toString());
+
+        assertThat(results).allSatisfy(result -> assertThat(result.rowCount).isEqualTo(ITEM_COUNT));
+    }
+}